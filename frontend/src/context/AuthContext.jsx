@@ -1,4 +1,5 @@
 import { createContext, useContext, useState, useEffect } from "react";
+import { authService } from "../services/api";
 
 const AuthContext = createContext(null);
 
@@ -17,14 +18,18 @@ export function AuthProvider({ children }) {
         setLoading(false);
     }, []);
 
-    const login = (userData, tokenData) => {
+    const login = (userData, tokenData, refreshToken) => {
         setUser(userData);
         setToken(tokenData);
         localStorage.setItem("token", tokenData);
+        if (refreshToken) localStorage.setItem("refreshToken", refreshToken);
         localStorage.setItem("user", JSON.stringify(userData));
     };
 
     const logout = () => {
+        const refreshToken = localStorage.getItem("refreshToken");
+        if (refreshToken) authService.logout(refreshToken).catch(() => {});
+        localStorage.removeItem("refreshToken");
         setUser(null);
         setToken(null);
         localStorage.removeItem("token");
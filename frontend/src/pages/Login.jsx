@@ -22,7 +22,7 @@ export default function Login() {
             const { data } = await authService.login(form);
             // Salvar role junto com os dados do usuário
             const userData = { ...data.user, role: decodeRole(data.token) };
-            login(userData, data.token);
+            login(userData, data.token, data.refreshToken);
             navigate("/jobs");
         } catch (err) {
             setError(err.response?.data?.error || "Erro ao realizar login");
@@ -13,11 +13,47 @@ api.interceptors.request.use((config) => {
     return config;
 });
 
+// Um único refresh em andamento, compartilhado pelas requisições que receberem 401 ao mesmo tempo
+let refreshing = null;
+
+function refreshTokens() {
+    if (!refreshing) {
+        const refreshToken = localStorage.getItem("refreshToken");
+        refreshing = axios
+            .post(`${API_URL}/api/auth/refresh`, { refreshToken })
+            .then(({ data }) => {
+                localStorage.setItem("token", data.token);
+                localStorage.setItem("refreshToken", data.refreshToken);
+                return data.token;
+            })
+            .finally(() => {
+                refreshing = null;
+            });
+    }
+    return refreshing;
+}
+
 api.interceptors.response.use(
     (res) => res,
-    (err) => {
+    async (err) => {
+        const original = err.config;
+        const canRefresh = original && !original._retry && !original.url?.startsWith("/api/auth/")
+            && localStorage.getItem("refreshToken");
+
+        if (err.response?.status === 401 && canRefresh) {
+            original._retry = true;
+            try {
+                const token = await refreshTokens();
+                original.headers.Authorization = `Bearer ${token}`;
+                return api(original);
+            } catch {
+                // refresh token expirado ou revogado: segue para o logout abaixo
+            }
+        }
+
         if (err.response?.status === 401) {
             localStorage.removeItem("token");
+            localStorage.removeItem("refreshToken");
             localStorage.removeItem("user");
             window.location.href = "/login";
         }
@@ -29,6 +65,7 @@ api.interceptors.response.use(
 export const authService = {
     register: (data) => api.post("/api/auth/register", data),
     login: (data) => api.post("/api/auth/login", data),
+    logout: (refreshToken) => api.post("/api/auth/logout", { refreshToken }),
 };
 
 // ─── Users ──────────────────────────────────
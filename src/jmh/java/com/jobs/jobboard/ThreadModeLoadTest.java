@@ -0,0 +1,171 @@
+package com.jobs.jobboard;
+
+import com.jobs.jobboard.config.security.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test that starts the application twice, once on Tomcat's platform-thread pool
+ * and once on virtual threads, and drives both with the same request mix:
+ * uncached search pages, the authenticated "my applications" list and job detail.
+ *
+ * <p>Arguments are {@code clients=N}, {@code seconds=N}, {@code jobs=N}; anything starting with
+ * {@code --} is passed to Spring, e.g. {@code --spring.datasource.url=jdbc:postgresql://...} to measure
+ * against a real database instead of the in-memory H2 the dev profile uses.
+ */
+public class ThreadModeLoadTest {
+
+    private static final int APPLICATIONS = 30;
+
+    public static void main(String[] args) throws Exception {
+        int clients = intArg(args, "clients", 400);
+        int seconds = intArg(args, "seconds", 20);
+        int jobs = intArg(args, "jobs", 5_000);
+        String[] springArgs = Arrays.stream(args).filter(arg -> arg.startsWith("--")).toArray(String[]::new);
+
+        List<String> report = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            report.add(run(virtual, clients, seconds, jobs, springArgs));
+        }
+
+        System.out.printf("%n%-9s %8s %10s %9s %9s %9s %8s%n", "mode", "clients", "req/s", "p50 ms", "p95 ms", "p99 ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    private static String run(boolean virtual, int clients, int seconds, int jobs, String[] springArgs) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + (virtual ? "virtual" : "platform"),
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--jwt.secret=load-test-secret-key-with-at-least-32-bytes",
+                "--jobboard.search.index.enabled=false",
+                "--jobboard.cache.search.max-page=0"
+        ));
+        arguments.addAll(Arrays.asList(springArgs));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JobboardApplication.class)
+                .profiles("dev")
+                .run(arguments.toArray(String[]::new))) {
+
+            seed(context.getBean(JdbcTemplate.class), jobs);
+            String token = context.getBean(JwtService.class).generateToken("candidate@loadtest.test", 2L, "CANDIDATE");
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            drive(port, token, clients, Duration.ofSeconds(Math.max(3, seconds / 4)), jobs, new long[0], new AtomicLong());
+
+            long[] latencies = new long[1 << 22];
+            AtomicLong errors = new AtomicLong();
+            int completed = drive(port, token, clients, Duration.ofSeconds(seconds), jobs, latencies, errors);
+
+            long[] sorted = Arrays.copyOf(latencies, Math.min(completed, latencies.length));
+            Arrays.sort(sorted);
+
+            return String.format("%-9s %8d %10.0f %9.1f %9.1f %9.1f %8d",
+                    virtual ? "virtual" : "platform", clients, completed / (double) seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), errors.get());
+        }
+    }
+
+    private static int drive(int port, String token, int clients, Duration duration, int jobs,
+                             long[] latencies, AtomicLong errors) throws InterruptedException {
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        // Resources close in reverse order: wait for every client loop before closing the HTTP client
+        try (HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (int i = 0; i < clients; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(port, token, jobs);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        long index = completed.getAndIncrement();
+                        if (index < latencies.length) latencies[(int) index] = System.nanoTime() - start;
+                    }
+                });
+            }
+        }
+
+        return (int) completed.get();
+    }
+
+    private static HttpRequest nextRequest(int port, String token, int jobs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String base = "http://localhost:" + port;
+        int pick = random.nextInt(4);
+
+        HttpRequest.Builder builder = switch (pick) {
+            case 0, 1 -> HttpRequest.newBuilder(URI.create(base + "/api/jobs?size=20&page=" + random.nextInt(50)));
+            case 2 -> HttpRequest.newBuilder(URI.create(base + "/api/applications/my-applications"))
+                    .header("Authorization", "Bearer " + token);
+            default -> HttpRequest.newBuilder(URI.create(base + "/api/jobs/" + (1 + random.nextInt(jobs))));
+        };
+
+        return builder.timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static void seed(JdbcTemplate jdbc, int jobs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbc.update("INSERT INTO users (id, name, email, password, role, created_at) VALUES (1, 'Owner', 'owner@loadtest.test', '{noop}unused', 'COMPANY', ?)", now);
+        jdbc.update("INSERT INTO users (id, name, email, password, role, created_at) VALUES (2, 'Candidate', 'candidate@loadtest.test', '{noop}unused', 'CANDIDATE', ?)", now);
+        jdbc.update("INSERT INTO companies (id, name, user_id, created_at) VALUES (1, 'Load Test Ltda', 1, ?)", now);
+
+        List<Object[]> rows = new ArrayList<>(jobs);
+        for (int i = 1; i <= jobs; i++) {
+            rows.add(new Object[]{i, "Vaga " + i, "Descrição da vaga " + i, "Remoto", "OPEN", 1, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO job_vacancies (id, title, description, location, status, company_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        List<Object[]> applications = new ArrayList<>(APPLICATIONS);
+        for (int i = 1; i <= Math.min(APPLICATIONS, jobs); i++) {
+            applications.add(new Object[]{i, 2, i, "PENDING", now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO applications (id, candidate_id, job_vacancy_id, status, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", applications);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * (sorted.length - 1)))] / 1_000_000.0;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(name + "="))
+                .map(arg -> Integer.parseInt(arg.substring(name.length() + 1)))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobs.jobboard.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares verification with the key and parser built once ({@code validateAndExtract}) against
+ * rebuilding both on every call, which is what {@code JwtService} used to do, for HMAC and Ed25519.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-bytes";
+
+    @Param({"HS256", "EdDSA"})
+    public String algorithm;
+
+    private JwtService jwtService;
+    private String token;
+    private String encodedPublicKey;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (algorithm.equals("EdDSA")) {
+            KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            encodedPublicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+            jwtService = new JwtService(SECRET, 86_400_000L, "EdDSA", "bench",
+                    Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+                    List.of("bench:" + encodedPublicKey));
+        } else {
+            jwtService = new JwtService(SECRET, 86_400_000L);
+        }
+        token = jwtService.generateToken("candidate@jobboard.com", 42L, "CANDIDATE");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("candidate@jobboard.com", 42L, "CANDIDATE");
+    }
+
+    @Benchmark
+    public JwtService.TokenClaims validateAndExtract() {
+        return jwtService.validateAndExtract(token);
+    }
+
+    @Benchmark
+    public Claims parsePerCall() throws Exception {
+        if (algorithm.equals("EdDSA")) {
+            PublicKey key = KeyFactory.getInstance("Ed25519")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encodedPublicKey)));
+            return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        }
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(token, "candidate@jobboard.com");
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobs.jobboard.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    @Param({
+            "Vaga não encontrada",
+            "Email já está em uso",
+            "Você não tem permissão para editar esta vaga",
+            "Apenas empresas podem criar vagas"
+    })
+    public String message;
+
+    private GlobalExceptionHandler handler;
+    private BusinessException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        exception = new BusinessException(message);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> resolveStatus() {
+        return handler.handleBusinessException(exception);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobResponseMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private JobService jobService;
+    private List<JobVacancy> page;
+
+    @Setup
+    public void setUp() {
+        jobService = new JobService(null, null, null, null, null, null, null, null, null, null, null, 0);
+
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("Acme Ltda");
+        company.setWebsite("https://acme.example");
+
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            JobVacancy job = new JobVacancy();
+            job.setId((long) i);
+            job.setTitle("Desenvolvedor Java " + i);
+            job.setDescription("Spring Boot, JPA e Postgres");
+            job.setLocation("São Paulo");
+            job.setStatus(JobStatus.OPEN);
+            job.setSalaryMin(BigDecimal.valueOf(8000));
+            job.setSalaryMax(BigDecimal.valueOf(12000));
+            job.setCompany(company);
+            job.setCreatedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            page.add(job);
+        }
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (JobVacancy job : page) {
+            JobResponse response = jobService.toResponse(job);
+            blackhole.consume(response);
+        }
+    }
+}
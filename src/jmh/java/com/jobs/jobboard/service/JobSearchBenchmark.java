@@ -0,0 +1,135 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.JobboardApplication;
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.CursorPage;
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.search.InMemoryJobSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs job search against the same embedded H2 database the dev profile uses, seeded with
+ * {@code dataset} jobs spread across a fixed set of companies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class JobSearchBenchmark {
+
+    private static final int COMPANIES = 200;
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] TITLES = {
+            "Desenvolvedor Java", "Analista de Dados", "Engenheiro de Software", "Frontend React",
+            "Product Manager", "DevOps", "QA Automation", "Designer UX"
+    };
+    private static final String[] LOCATIONS = {"São Paulo", "Recife", "Remoto", "Curitiba", "Porto Alegre"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int dataset;
+
+    @Param({"index", "database"})
+    public String engine;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private Pageable newestFirst;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobboardApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + dataset + "-" + engine,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--jwt.secret=benchmark-secret-key-with-at-least-32-bytes",
+                        "--jobboard.search.index.enabled=" + engine.equals("index"),
+                        "--jobboard.cache.search.max-page=0"
+                );
+
+        seed(context.getBean(JdbcTemplate.class));
+        if (engine.equals("index")) {
+            context.getBean(InMemoryJobSearchIndex.class).rebuild();
+        }
+
+        jobService = context.getBean(JobService.class);
+        newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<JobResponse> keyword() {
+        return jobService.searchJobs("java", null, null, null, null, newestFirst, CountMode.EXACT);
+    }
+
+    @Benchmark
+    public Page<JobResponse> keywordAndStatus() {
+        return jobService.searchJobs("remoto", null, null, null, JobStatus.OPEN, newestFirst, CountMode.EXACT);
+    }
+
+    @Benchmark
+    public Page<JobResponse> companyName() {
+        return jobService.searchJobs(null, null, null, "company 17", null, newestFirst, CountMode.EXACT);
+    }
+
+    @Benchmark
+    public CursorPage<JobResponse> keywordByCursor() {
+        return jobService.searchJobsByCursor("java", null, null, null, null, null, 20);
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp created = Timestamp.valueOf(now);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> companies = new ArrayList<>();
+        for (int c = 1; c <= COMPANIES; c++) {
+            users.add(new Object[]{c, "Owner " + c, "owner" + c + "@benchmark.test", "{noop}unused", "COMPANY", created});
+            companies.add(new Object[]{c, "Company " + c, c, created});
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+        jdbc.batchUpdate("INSERT INTO companies (id, name, user_id, created_at) VALUES (?, ?, ?, ?)", companies);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= dataset; i++) {
+            String title = TITLES[i % TITLES.length];
+            String location = LOCATIONS[i % LOCATIONS.length];
+            JobStatus status = i % 4 == 0 ? JobStatus.CLOSED : JobStatus.OPEN;
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(dataset - i));
+
+            batch.add(new Object[]{i, title + " " + i, "Vaga de " + title + " em " + location, location,
+                    status.name(), (i % COMPANIES) + 1, createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE || i == dataset) {
+                jdbc.batchUpdate("INSERT INTO job_vacancies (id, title, description, location, status, company_id, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
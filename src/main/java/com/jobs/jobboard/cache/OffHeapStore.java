@@ -0,0 +1,152 @@
+package com.jobs.jobboard.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Byte-budgeted LRU of serialized values held in direct buffers, outside the Java heap.
+ */
+final class OffHeapStore<K> {
+
+    private record Slot(ByteBuffer buffer, long expiresAt) {}
+
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long usedBytes;
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    OffHeapStore(long maxBytes, Duration ttl) {
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    byte[] take(K key) {
+        lock.lock();
+        try {
+            Slot slot = slots.remove(key);
+            if (slot == null) {
+                misses.increment();
+                return null;
+            }
+
+            usedBytes -= slot.buffer().capacity();
+            if (System.nanoTime() - slot.expiresAt() >= 0) {
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            byte[] bytes = new byte[slot.buffer().capacity()];
+            slot.buffer().duplicate().get(bytes);
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(K key, byte[] bytes) {
+        if (bytes.length > maxBytes) return;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        lock.lock();
+        try {
+            Slot previous = slots.put(key, new Slot(buffer, System.nanoTime() + ttlNanos));
+            if (previous != null) usedBytes -= previous.buffer().capacity();
+            usedBytes += bytes.length;
+
+            Iterator<Slot> eldest = slots.values().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().buffer().capacity();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(K key) {
+        lock.lock();
+        try {
+            Slot slot = slots.remove(key);
+            if (slot != null) usedBytes -= slot.buffer().capacity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(K key, Slot slot) {
+        lock.lock();
+        try {
+            if (slots.remove(key, slot)) usedBytes -= slot.buffer().capacity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tests a snapshot of the entries without holding the lock, so deserializing them does not stall
+     * readers; an entry replaced meanwhile is left alone.
+     */
+    void removeIf(Predicate<byte[]> predicate) {
+        List<Map.Entry<K, Slot>> snapshot = new ArrayList<>();
+        lock.lock();
+        try {
+            slots.forEach((key, slot) -> snapshot.add(Map.entry(key, slot)));
+        } finally {
+            lock.unlock();
+        }
+
+        for (Map.Entry<K, Slot> entry : snapshot) {
+            ByteBuffer buffer = entry.getValue().buffer();
+            byte[] bytes = new byte[buffer.capacity()];
+            buffer.duplicate().get(bytes);
+            if (predicate.test(bytes)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            slots.clear();
+            usedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
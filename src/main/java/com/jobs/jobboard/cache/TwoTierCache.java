@@ -0,0 +1,113 @@
+package com.jobs.jobboard.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache with a size- and TTL-bounded heap tier (Caffeine, W-TinyLFU admission) and an
+ * optional off-heap tier that receives entries evicted from the heap for lack of space, stored as JSON.
+ * Off-heap hits are moved back into the heap tier.
+ *
+ * <p>Concurrent misses on the same key share a single load that runs on the first caller's thread,
+ * outside any cache lock, so a slow loader neither blocks other keys nor pins a virtual thread. An
+ * entry invalidated while it loads is dropped, not stored when the load finishes.
+ */
+public class TwoTierCache<K, V> {
+
+    private final AsyncCache<K, V> heap;
+    private final OffHeapStore<K> offHeap;
+    private final ObjectMapper objectMapper;
+    private final Class<V> type;
+
+    public TwoTierCache(String name, Class<V> type, long maxEntries, Duration ttl, long offHeapMaxBytes,
+                        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.offHeap = offHeapMaxBytes > 0 ? new OffHeapStore<>(offHeapMaxBytes, ttl) : null;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats();
+
+        if (offHeap != null) {
+            builder.evictionListener((K key, V value, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE && key != null && value != null) {
+                    offHeap.put(key, objectMapper.writeValueAsBytes(value));
+                }
+            });
+        }
+
+        this.heap = builder.buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, heap, name);
+        if (offHeap != null) {
+            Gauge.builder("jobboard.cache.offheap.entries", offHeap, OffHeapStore::size)
+                    .tag("cache", name).register(meterRegistry);
+            Gauge.builder("jobboard.cache.offheap.bytes", offHeap, OffHeapStore::usedBytes)
+                    .tag("cache", name).baseUnit("bytes").register(meterRegistry);
+            FunctionCounter.builder("jobboard.cache.offheap.gets", offHeap, store -> store.hits.sum())
+                    .tag("cache", name).tag("result", "hit").register(meterRegistry);
+            FunctionCounter.builder("jobboard.cache.offheap.gets", offHeap, store -> store.misses.sum())
+                    .tag("cache", name).tag("result", "miss").register(meterRegistry);
+            FunctionCounter.builder("jobboard.cache.offheap.evictions", offHeap, store -> store.evictions.sum())
+                    .tag("cache", name).register(meterRegistry);
+        }
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = heap.get(key, (k, executor) -> pending);
+
+        if (future == pending) {
+            try {
+                pending.complete(load(key, loader));
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public void invalidate(K key) {
+        heap.synchronous().invalidate(key);
+        if (offHeap != null) offHeap.remove(key);
+    }
+
+    public void invalidateIf(Predicate<V> predicate) {
+        heap.synchronous().asMap().values().removeIf(predicate);
+        if (offHeap != null) offHeap.removeIf(bytes -> predicate.test(objectMapper.readValue(bytes, type)));
+    }
+
+    public void invalidateAll() {
+        heap.synchronous().invalidateAll();
+        if (offHeap != null) offHeap.clear();
+    }
+
+    private V load(K key, Function<K, V> loader) {
+        if (offHeap != null) {
+            byte[] bytes = offHeap.take(key);
+            if (bytes != null) return objectMapper.readValue(bytes, type);
+        }
+        return loader.apply(key);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobs.jobboard.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived result cache whose entries belong to a version. {@link #advance()} moves every reader to a
+ * new version at once, so entries cached before a write are never served again and simply expire.
+ * Concurrent misses on the same key share a single load that runs on the first caller's thread.
+ */
+public class VersionedCache<K, V> {
+
+    private final AsyncCache<Versioned<K>, V> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public VersionedCache(String name, long maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(new Versioned<>(version.get(), key), (k, executor) -> pending);
+
+        if (future == pending) {
+            try {
+                pending.complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public void advance() {
+        version.incrementAndGet();
+    }
+
+    private record Versioned<K>(long version, K key) {
+    }
+}
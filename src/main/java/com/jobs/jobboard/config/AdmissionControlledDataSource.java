@@ -0,0 +1,121 @@
+package com.jobs.jobboard.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits at most {@code permits} callers into the pool at a time and queues the rest fairly for up to
+ * {@code maxWait}, failing fast after that. With virtual threads there is no request-thread ceiling,
+ * so without this every waiting request would sit inside the pool's own handoff queue until its
+ * connection timeout.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final String pool;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long maxWaitNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionControlledDataSource(DataSource target, String pool, int permits, Duration maxWait) {
+        super(target);
+        this.pool = pool;
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobboard.datasource.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a connection permit").tag("pool", pool).register(registry);
+        Gauge.builder("jobboard.datasource.admission.active", this, source -> source.maxPermits - source.permits.availablePermits())
+                .description("Connection permits in use").tag("pool", pool).register(registry);
+        FunctionCounter.builder("jobboard.datasource.admission.rejected", rejected, LongAdder::sum)
+                .description("Callers that gave up waiting for a connection permit").tag("pool", pool).register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return release(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return release(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("Connection admission timed out after "
+                        + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms (" + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    /**
+     * Wraps the pooled connection so its permit is returned exactly once, on the first close; later
+     * closes are no-ops that never reach the pool. Equality is the wrapper's own identity, so two
+     * wrappers around the same pooled connection are not equal.
+     */
+    private Connection release(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "isClosed" -> closed.get() || (boolean) invoke(connection, method, args);
+                    case "close" -> {
+                        if (!closed.compareAndSet(false, true)) yield null;
+                        try {
+                            yield invoke(connection, method, args);
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
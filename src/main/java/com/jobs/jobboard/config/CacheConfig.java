@@ -0,0 +1,60 @@
+package com.jobs.jobboard.config;
+
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.cache.VersionedCache;
+import com.jobs.jobboard.dto.response.CompanyResponse;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.search.JobSearchKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${jobboard.cache.off-heap.enabled:false}")
+    private boolean offHeapEnabled;
+
+    @Bean
+    public TwoTierCache<Long, JobResponse> jobCache(
+            @Value("${jobboard.cache.jobs.max-entries:10000}") long maxEntries,
+            @Value("${jobboard.cache.jobs.ttl:PT5M}") Duration ttl,
+            @Value("${jobboard.cache.jobs.off-heap-max-bytes:67108864}") long offHeapMaxBytes,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new TwoTierCache<>("jobs", JobResponse.class, maxEntries, ttl,
+                offHeapEnabled ? offHeapMaxBytes : 0, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public TwoTierCache<Long, CompanyResponse> companyCache(
+            @Value("${jobboard.cache.companies.max-entries:2000}") long maxEntries,
+            @Value("${jobboard.cache.companies.ttl:PT10M}") Duration ttl,
+            @Value("${jobboard.cache.companies.off-heap-max-bytes:8388608}") long offHeapMaxBytes,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new TwoTierCache<>("companies", CompanyResponse.class, maxEntries, ttl,
+                offHeapEnabled ? offHeapMaxBytes : 0, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public TwoTierCache<Long, CompanyStatsResponse> companyStatsCache(
+            @Value("${jobboard.cache.company-stats.max-entries:1000}") long maxEntries,
+            @Value("${jobboard.cache.company-stats.ttl:PT2M}") Duration ttl,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new TwoTierCache<>("company-stats", CompanyStatsResponse.class, maxEntries, ttl,
+                0, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public VersionedCache<JobSearchKey, CountedPage<JobResponse>> jobSearchCache(
+            @Value("${jobboard.cache.search.max-entries:5000}") long maxEntries,
+            @Value("${jobboard.cache.search.ttl:PT30S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        return new VersionedCache<>("job-search", maxEntries, ttl, meterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobs.jobboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Puts an {@link AdmissionControlledDataSource} in front of the Hikari pool, sized to the pool itself.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobboard.datasource.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(
+            @Value("${jobboard.datasource.admission.max-wait:PT5S}") Duration maxWait) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new AdmissionControlledDataSource(hikari, beanName, hikari.getMaximumPoolSize(), maxWait);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobs.jobboard.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Refuses to start when an id sequence would hand out ids that are already taken. That happens when rows
+ * reach a table without going through its sequence: a dump restored without its sequence values, or a
+ * database moved off IDENTITY columns without running {@code 010-identity-to-sequences.sql}. Inserts
+ * would otherwise fail one by one with duplicate keys until the sequence caught up.
+ *
+ * <p>With {@code jobboard.ids.repair-sequences=true} each sequence that is behind is restarted past
+ * {@code max(id)} instead. Runs once every singleton exists, so the schema is in place, and before the
+ * web server accepts requests.
+ */
+@Component
+public class IdSequenceCheck implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceCheck.class);
+
+    private record SequencedTable(String table, String idColumn, String sequence) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean repair;
+
+    public IdSequenceCheck(JdbcTemplate jdbcTemplate,
+                           EntityManagerFactory entityManagerFactory,
+                           @Value("${jobboard.ids.repair-sequences:false}") boolean repair) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.repair = repair;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product) && !"H2".equals(product)) {
+            log.info("Id sequence check does not support {}; skipped", product);
+            return;
+        }
+
+        List<String> behind = new ArrayList<>();
+        for (SequencedTable table : sequencedTables()) {
+            long nextValue = nextValue(product, table.sequence());
+            long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + table.idColumn() + "), 0) FROM " + table.table(), Long.class);
+            if (nextValue > maxId) continue;
+
+            if (repair) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + table.sequence() + " RESTART WITH " + (maxId + 1));
+                log.warn("Sequence {} was at {}, behind max({}.{}) = {}; restarted at {}",
+                        table.sequence(), nextValue, table.table(), table.idColumn(), maxId, maxId + 1);
+            } else {
+                behind.add("%s is at %d, max(%s.%s) is %d".formatted(
+                        table.sequence(), nextValue, table.table(), table.idColumn(), maxId));
+            }
+        }
+
+        if (!behind.isEmpty()) {
+            throw new IllegalStateException("Id sequences would hand out ids already in use: "
+                    + String.join("; ", behind) + ". Move them past max(id) as db/postgres/"
+                    + "010-identity-to-sequences.sql does, or start once with jobboard.ids.repair-sequences=true");
+        }
+    }
+
+    /**
+     * Tables whose ids come from a sequence, read from the Hibernate mapping so entities mapped back to
+     * IDENTITY columns are left out.
+     */
+    private Set<SequencedTable> sequencedTables() {
+        Set<SequencedTable> tables = new LinkedHashSet<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                            && persister instanceof AbstractEntityPersister entity) {
+                        tables.add(new SequencedTable(entity.getRootTableName(),
+                                entity.getIdentifierColumnNames()[0],
+                                generator.getDatabaseStructure().getPhysicalName().render()));
+                    }
+                });
+        return tables;
+    }
+
+    // The value the next nextval() returns, without calling it
+    private long nextValue(String product, String sequence) {
+        if ("H2".equals(product)) {
+            return jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+                            + "WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = ?",
+                    Long.class, sequence.toUpperCase(Locale.ROOT));
+        }
+        // last_value is still the next value until the first nextval() after setval(..., false)
+        return jdbcTemplate.queryForObject("""
+                SELECT CASE WHEN s.is_called THEN s.last_value + p.increment_by ELSE s.last_value END
+                FROM %s s, pg_sequences p
+                WHERE p.schemaname = current_schema() AND p.sequencename = ?""".formatted(sequence),
+                Long.class, sequence);
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobs.jobboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica pools listed in
+ * {@code jobboard.datasource.replica.urls} and everything else to the primary. Only active when that
+ * property is set; otherwise Spring Boot's single auto-configured pool is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jobboard.datasource.replica.urls")
+public class ReadReplicaConfig {
+
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Value("${jobboard.datasource.replica.urls}") List<String> urls,
+            @Value("${jobboard.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${jobboard.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${jobboard.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${jobboard.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${jobboard.datasource.replica.max-lag:PT10S}") Duration maxLag,
+            @Value("${jobboard.datasource.replica.sticky-window:PT5S}") Duration stickyWindow,
+            @Value("${jobboard.datasource.admission.enabled:true}") boolean admission,
+            @Value("${jobboard.datasource.admission.max-wait:PT5S}") Duration maxWait) {
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String url = urls.get(i).trim();
+            String name = "replica-" + (i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(url);
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+
+            DataSource dataSource = admission ? new AdmissionControlledDataSource(pool, name, poolSize, maxWait) : pool;
+            String query = !lagQuery.isBlank() ? lagQuery : url.startsWith("jdbc:postgresql:") ? POSTGRES_LAG_QUERY : null;
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, dataSource, query));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Each transaction gets its own connection; open-in-view would otherwise hold the first one, replica or
+    // primary, for the whole request
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,217 @@
+package com.jobs.jobboard.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands out primary connections to read-write transactions and replica connections to read-only ones.
+ * Meant to sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so
+ * the connection is fetched once the transaction's read-only flag is known.
+ *
+ * <p>Read-only work picks a healthy replica round-robin and falls back to the primary when no replica
+ * is healthy, when a replica refuses a connection, or when the current user wrote within the sticky
+ * window (read-your-writes). Replica health and lag are checked on a fixed delay; a replica lagging
+ * more than {@code maxLag} is skipped until it catches up.
+ *
+ * <p>Read-only transactions named {@link #PRIMARY_READ} always go to the primary. Loads whose result
+ * outlives the transaction (cache fills, the search index rebuild) use them, since a replica's answer
+ * up to {@code maxLag} old would otherwise be kept for the cache's whole TTL after an eviction.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public static final String PRIMARY_READ = "primary-read";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder routedToReplica = new LongAdder();
+    private final LongAdder routedToPrimarySticky = new LongAdder();
+    private final LongAdder routedToPrimaryPinned = new LongAdder();
+    private final LongAdder routedToPrimaryFallback = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration maxLag, Duration stickyWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+        checkReplicas();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+            return primary.getConnection();
+        }
+
+        if (PRIMARY_READ.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            routedToPrimaryPinned.increment();
+            return primary.getConnection();
+        }
+
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            routedToPrimarySticky.increment();
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) continue;
+
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                routedToReplica.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+
+        routedToPrimaryFallback.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * A read-only transaction template whose transactions read the primary whether or not replica
+     * routing is configured.
+     */
+    public static TransactionTemplate primaryReadOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setName(PRIMARY_READ);
+        return template;
+    }
+
+    @Scheduled(fixedDelayString = "${jobboard.datasource.replica.check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                double lagSeconds = lagSeconds(connection, replica.lagQuery);
+                replica.lagSeconds = lagSeconds;
+
+                if (lagSeconds > maxLag.toMillis() / 1000.0) {
+                    markDown(replica, "lag " + lagSeconds + "s exceeds " + maxLag);
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} back in rotation (lag {}s)", replica.name, lagSeconds);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobboard.datasource.replicas.healthy", replicas, list -> list.stream().filter(r -> r.healthy).count())
+                .description("Replicas currently receiving read-only transactions").register(registry);
+        for (Replica replica : replicas) {
+            Gauge.builder("jobboard.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name).baseUnit("seconds").register(registry);
+            if (replica.dataSource instanceof MeterBinder binder) {
+                binder.bindTo(registry);
+            }
+        }
+        FunctionCounter.builder("jobboard.datasource.routing", routedToReplica, LongAdder::sum)
+                .tag("target", "replica").register(registry);
+        FunctionCounter.builder("jobboard.datasource.routing", routedToPrimarySticky, LongAdder::sum)
+                .tag("target", "primary-sticky").register(registry);
+        FunctionCounter.builder("jobboard.datasource.routing", routedToPrimaryPinned, LongAdder::sum)
+                .tag("target", "primary-read").register(registry);
+        FunctionCounter.builder("jobboard.datasource.routing", routedToPrimaryFallback, LongAdder::sum)
+                .tag("target", "primary-fallback").register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource.isWrapperFor(AutoCloseable.class)) {
+                replica.dataSource.unwrap(AutoCloseable.class).close();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.name, reason);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+            return principal.id();
+        }
+        return null;
+    }
+
+    private static double lagSeconds(Connection connection, String lagQuery) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            if (!connection.isValid(2)) throw new SQLException("Connection not valid");
+            return 0;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getDouble(1) : 0;
+        }
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final String lagQuery;
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+
+        public Replica(String name, DataSource dataSource, String lagQuery) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobs.jobboard.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many rows each repository method returns or modifies. Invocation timings come from
+ * Spring Boot's own {@code spring.data.repository.invocations} timer.
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryRowCountPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RowCountInterceptor(meterRegistry, information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    static final class RowCountInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final String repository;
+        private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+        RowCountInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String repository) {
+            this.meterRegistry = meterRegistry;
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+
+            long rows = rows(invocation.getMethod(), result);
+            if (rows >= 0) {
+                DistributionSummary summary = summary(invocation.getMethod());
+                if (summary != null) summary.record(rows);
+            }
+
+            return result;
+        }
+
+        private DistributionSummary summary(Method method) {
+            DistributionSummary summary = summaries.get(method);
+            if (summary != null) return summary;
+
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) return null;
+
+            return summaries.computeIfAbsent(method, key -> DistributionSummary.builder("jobboard.repository.rows")
+                    .description("Rows returned or modified by a repository method")
+                    .tag("repository", repository)
+                    .tag("method", key.getName())
+                    .register(registry));
+        }
+
+        private static long rows(Method method, Object result) {
+            if (method.isAnnotationPresent(Modifying.class)) {
+                return result instanceof Number number ? number.longValue() : -1;
+            }
+
+            if (result == null) {
+                return method.getReturnType() == void.class ? -1 : 0;
+            }
+
+            if (result instanceof Slice<?> slice) return slice.getNumberOfElements();
+            if (result instanceof Collection<?> collection) return collection.size();
+            if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+            if (result instanceof Number || result instanceof Boolean) return -1;
+            if (result instanceof Iterable<?> || result instanceof AutoCloseable) return -1;
+
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobs.jobboard.config.security;
+
+import com.jobs.jobboard.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+public record AuthenticatedPrincipal(Long id, String email, Role role, Long companyId) implements UserDetails {
+
+    public AuthenticatedPrincipal(Long id, String email, Role role) {
+        this(id, email, role, null);
+    }
+
+    public AuthenticatedPrincipal withCompanyId(Long companyId) {
+        return new AuthenticatedPrincipal(id, email, role, companyId);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
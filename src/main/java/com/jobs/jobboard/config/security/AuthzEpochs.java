@@ -0,0 +1,59 @@
+package com.jobs.jobboard.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobs.jobboard.repository.UserRepository;
+import com.jobs.jobboard.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Decides whether the ownership claims in an access token ({@code companyId}) still hold. Each token
+ * carries the user's {@code authz_epoch} from when it was issued; anything that makes the claims false
+ * (deleting the company) advances the epoch, and tokens from an older epoch are refused. The current
+ * epoch is cached per user for {@code jwt.authz-epoch.cache-ttl}, so an advance made on another
+ * instance applies within that window and one made here applies at once.
+ */
+@Component
+public class AuthzEpochs {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Long> current;
+
+    public AuthzEpochs(UserRepository userRepository,
+                       @Value("${jwt.authz-epoch.cache-ttl:PT10S}") Duration cacheTtl,
+                       @Value("${jwt.authz-epoch.cache-max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.current = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(Math.max(maxSize, 0))
+                .build();
+    }
+
+    /**
+     * The epoch is loaded outside the cache's compute, so a miss never holds a cache lock (and pins no
+     * virtual thread) across the query. Concurrent misses may each query; epochs only grow, so the
+     * highest one seen is kept. A load racing an advance here can cache the old epoch for at most the
+     * TTL, the same window other instances already have.
+     */
+    public boolean isCurrent(Long userId, long tokenEpoch) {
+        Long epoch = current.getIfPresent(userId);
+        if (epoch == null) {
+            // A user that no longer exists has no valid claims
+            epoch = current.asMap().merge(userId,
+                    userRepository.findAuthzEpochById(userId).orElse(Long.MAX_VALUE), Math::max);
+        }
+        return tokenEpoch >= epoch;
+    }
+
+    /**
+     * Invalidates the ownership claims of every token issued to the user so far. Must run inside the
+     * transaction that changes the ownership.
+     */
+    public void advance(Long userId) {
+        userRepository.incrementAuthzEpoch(userId);
+        AfterCommit.run(() -> current.invalidate(userId));
+    }
+}
@@ -1,5 +1,10 @@
 package com.jobs.jobboard.config.security;
 
+import com.jobs.jobboard.entity.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,8 +12,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,7 +25,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtService jwtService;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private JwtClaimsCache claimsCache;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private AuthzEpochs authzEpochs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,17 +48,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        String email = jwtService.extractEmail(token);
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedPrincipal principal = resolvePrincipal(token);
 
-            if (jwtService.validateToken(token, userDetails.getUsername())) {
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -55,4 +66,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private AuthenticatedPrincipal resolvePrincipal(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return null;
+        }
+
+        if (revocationList.isRevoked(verified.jti())) {
+            meterRegistry.counter("jobboard.jwt.rejected", "reason", "revoked").increment();
+            return null;
+        }
+
+        AuthenticatedPrincipal principal = verified.principal();
+        if (principal.companyId() != null && !authzEpochs.isCurrent(principal.id(), verified.authzEpoch())) {
+            meterRegistry.counter("jobboard.jwt.rejected", "reason", "stale-authz").increment();
+            return null;
+        }
+        return principal;
+    }
+
+    private VerifiedToken verify(String token) {
+        VerifiedToken cached = claimsCache.get(token);
+        meterRegistry.counter("jobboard.jwt.cache", "result", cached != null ? "hit" : "miss").increment();
+        if (cached != null) {
+            return cached;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "valid";
+        try {
+            JwtService.TokenClaims claims = jwtService.validateAndExtract(token);
+
+            AuthenticatedPrincipal principal = new AuthenticatedPrincipal(
+                    claims.userId(), claims.email(), Role.valueOf(claims.role()), claims.companyId());
+            VerifiedToken verified = new VerifiedToken(principal, claims.jti(), claims.authzEpoch(), claims.expiresAt());
+            claimsCache.put(token, verified);
+            return verified;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            outcome = "invalid";
+            return null;
+        } finally {
+            sample.stop(meterRegistry.timer("jobboard.jwt.verify", "outcome", outcome));
+        }
+    }
 }
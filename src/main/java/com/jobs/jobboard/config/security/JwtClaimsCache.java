@@ -0,0 +1,49 @@
+package com.jobs.jobboard.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Verified tokens by SHA-256, each kept until its own expiry. Backed by Caffeine rather than a
+ * synchronized map so concurrent requests (and virtual threads) never queue on a single monitor.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, VerifiedToken> entries;
+
+    public JwtClaimsCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(Expiry.creating((String key, VerifiedToken entry) -> Duration.between(Instant.now(), entry.expiresAt())))
+                .build();
+    }
+
+    public VerifiedToken get(String token) {
+        return entries.getIfPresent(hash(token));
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!verified.expiresAt().isAfter(Instant.now())) return;
+        entries.put(hash(token), verified);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+}
@@ -1,41 +1,161 @@
 package com.jobs.jobboard.config.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
-
+import java.util.function.UnaryOperator;
+
+/**
+ * Signs and verifies access tokens. Keys and the parser are built once at startup and shared by all
+ * threads (both are immutable).
+ *
+ * <p>{@code jwt.algorithm=HS256} (default) signs with {@code jwt.secret}. {@code jwt.algorithm=EdDSA}
+ * signs with the Ed25519 key {@code jwt.eddsa.private-key} and puts {@code jwt.eddsa.active-kid} in the
+ * header; tokens verify against whichever key in {@code jwt.eddsa.public-keys} their kid names. To
+ * rotate, publish the new public key, switch the active kid and private key, and drop the old public
+ * key once the last token signed with it has expired.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    public record IssuedToken(String token, String jti, Instant expiresAt) {}
+
+    /**
+     * The claims of a verified access token. {@code jti} is null for tokens issued before tokens carried one;
+     * {@code companyId} is null unless the token was issued to a COMPANY user who owned a company.
+     */
+    public record TokenClaims(String email, Long userId, String role, Long companyId, long authzEpoch,
+                              String jti, Instant issuedAt, Instant expiresAt) {}
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final long expiration;
+    private final UnaryOperator<JwtBuilder> signer;
+    private final JwtParser parser;
+
+    public JwtService(String secret, long expiration) {
+        this(secret, expiration, "HS256", "", "", List.of());
+    }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long expiration,
+                      @Value("${jwt.algorithm:HS256}") String algorithm,
+                      @Value("${jwt.eddsa.active-kid:}") String activeKid,
+                      @Value("${jwt.eddsa.private-key:}") String privateKey,
+                      @Value("${jwt.eddsa.public-keys:}") List<String> publicKeys) {
+        this.expiration = expiration;
+
+        switch (algorithm) {
+            case "HS256" -> {
+                SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                this.signer = builder -> builder.signWith(key);
+                this.parser = Jwts.parser().verifyWith(key).build();
+            }
+            case "EdDSA" -> {
+                Map<String, PublicKey> verificationKeys = parsePublicKeys(publicKeys);
+                if (!verificationKeys.containsKey(activeKid)) {
+                    throw new IllegalStateException("jwt.eddsa.public-keys has no key for active kid '" + activeKid + "'");
+                }
+
+                PrivateKey key = parsePrivateKey(privateKey);
+                this.signer = builder -> builder.header().keyId(activeKid).and().signWith(key, Jwts.SIG.EdDSA);
+                this.parser = Jwts.parser()
+                        .keyLocator(header -> {
+                            String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+                            PublicKey publicKey = kid != null ? verificationKeys.get(kid) : null;
+                            if (publicKey == null) throw new InvalidKeyException("Unknown key id: " + kid);
+                            return publicKey;
+                        })
+                        .build();
+            }
+            default -> throw new IllegalStateException("Unsupported jwt.algorithm: " + algorithm);
+        }
     }
 
     public String generateToken(String email, Long userId, String role) {
+        return issueToken(email, userId, role).token();
+    }
+
+    public IssuedToken issueToken(String email, Long userId, String role) {
+        return issueToken(email, userId, role, null, 0);
+    }
+
+    /**
+     * Signs an access token with a random {@code jti}, so it can be revoked on its own before it expires.
+     * A non-null {@code companyId} is embedded together with the user's {@code authzEpoch}, and is only
+     * honoured while that epoch is current (see {@link AuthzEpochs}).
+     */
+    public IssuedToken issueToken(String email, Long userId, String role, Long companyId, long authzEpoch) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(jti)
                 .subject(email)
                 .claim("userId", userId)
                 .claim("role", role)
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(expiryDate);
+        if (companyId != null) {
+            builder.claim("companyId", companyId).claim("authzEpoch", authzEpoch);
+        }
+
+        String token = signer.apply(builder).compact();
+
+        return new IssuedToken(token, jti, expiryDate.toInstant());
+    }
+
+    /**
+     * Verifies signature and expiry and reads the claims in a single parse.
+     *
+     * @throws ExpiredJwtException if the token has expired
+     * @throws io.jsonwebtoken.JwtException if the token is otherwise invalid or lacks a required claim
+     */
+    public TokenClaims validateAndExtract(String token) {
+        Claims claims = parseClaims(token);
+
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+        if (claims.getSubject() == null || userId == null || role == null || claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token sem as claims obrigatórias");
+        }
+
+        Long companyId = claims.get("companyId", Long.class);
+        Long authzEpoch = claims.get("authzEpoch", Long.class);
+        if (companyId != null && authzEpoch == null) {
+            throw new MalformedJwtException("Token com companyId sem authzEpoch");
+        }
+
+        return new TokenClaims(claims.getSubject(), userId, role, companyId, authzEpoch != null ? authzEpoch : 0,
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant());
     }
 
     public String extractRole(String token) {
@@ -55,16 +175,11 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -72,7 +187,38 @@ public class JwtService {
     }
 
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        try {
+            return validateAndExtract(token).email().equals(email);
+        } catch (ExpiredJwtException e) {
+            return false;
+        }
+    }
+
+    private static PrivateKey parsePrivateKey(String base64) {
+        try {
+            return KeyFactory.getInstance("Ed25519").generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.eddsa.private-key is not a base64 PKCS#8 Ed25519 key", e);
+        }
+    }
+
+    // Entries are kid:base64 X.509 (SubjectPublicKeyInfo) keys
+    private static Map<String, PublicKey> parsePublicKeys(List<String> entries) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("jwt.eddsa.public-keys entries must be kid:base64-key");
+            }
+
+            String kid = entry.substring(0, separator).trim();
+            try {
+                keys.put(kid, KeyFactory.getInstance("Ed25519").generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(entry.substring(separator + 1).trim()))));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalStateException("jwt.eddsa.public-keys entry '" + kid + "' is not a base64 X.509 Ed25519 key", e);
+            }
+        }
+        return Map.copyOf(keys);
     }
 }
@@ -0,0 +1,107 @@
+package com.jobs.jobboard.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobs.jobboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets for login attempts, one per client IP and one per email, checked before any password
+ * is hashed. The IP bucket stops a single source spraying many accounts; the email bucket stops many
+ * sources guessing one account. Idle buckets are dropped once they would have refilled anyway.
+ *
+ * <p>The client IP is the request's remote address; {@code server.forward-headers-strategy=native}
+ * makes that the original client rather than the reverse proxy in front of the application.
+ */
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    private final Limit byIp;
+    private final Limit byEmail;
+
+    public LoginRateLimiter(@Value("${jobboard.security.login.ip.capacity:30}") int ipCapacity,
+                            @Value("${jobboard.security.login.ip.refill-period:PT1M}") Duration ipRefillPeriod,
+                            @Value("${jobboard.security.login.email.capacity:10}") int emailCapacity,
+                            @Value("${jobboard.security.login.email.refill-period:PT5M}") Duration emailRefillPeriod) {
+        this.byIp = new Limit(ipCapacity, ipRefillPeriod);
+        this.byEmail = new Limit(emailCapacity, emailRefillPeriod);
+    }
+
+    public void acquire(String clientIp, String email) {
+        long retryAfterNanos = Math.max(
+                clientIp != null ? byIp.tryAcquire(clientIp) : 0,
+                email != null ? byEmail.tryAcquire(email.toLowerCase(Locale.ROOT)) : 0);
+
+        if (retryAfterNanos > 0) {
+            long seconds = Math.max(1, Duration.ofNanos(retryAfterNanos).toSeconds() + 1);
+            throw new TooManyRequestsException(
+                    "Muitas tentativas de login, tente novamente em " + seconds + " segundos", seconds);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jobboard.auth.login.throttled", byIp.throttled, LongAdder::sum)
+                .description("Login attempts refused by rate limit").tag("key", "ip").register(registry);
+        FunctionCounter.builder("jobboard.auth.login.throttled", byEmail.throttled, LongAdder::sum)
+                .description("Login attempts refused by rate limit").tag("key", "email").register(registry);
+    }
+
+    private static final class Limit {
+
+        private final int capacity;
+        private final long nanosPerToken;
+        private final Cache<String, Bucket> buckets;
+        private final LongAdder throttled = new LongAdder();
+
+        Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.nanosPerToken = Math.max(1, refillPeriod.toNanos() / Math.max(capacity, 1));
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(refillPeriod)
+                    .maximumSize(100_000)
+                    .build();
+        }
+
+        /**
+         * Takes a token, returning 0, or the nanoseconds until one is available.
+         */
+        long tryAcquire(String key) {
+            if (capacity <= 0) return 0;
+
+            long wait = buckets.get(key, k -> new Bucket(capacity)).tryAcquire(capacity, nanosPerToken);
+            if (wait > 0) throttled.increment();
+            return wait;
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        Bucket(int capacity) {
+            this.tokens = capacity;
+        }
+
+        synchronized long tryAcquire(int capacity, long nanosPerToken) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (double) (now - refilledAt) / nanosPerToken);
+            refilledAt = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) ((1 - tokens) * nanosPerToken);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobs.jobboard.config.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs password hashing on a small pool of platform threads with a bounded queue, so a login burst
+ * costs at most {@code threads} cores and search traffic keeps the rest. Callers (virtual threads)
+ * just park while their hash runs; once the queue is full new work is rejected with a
+ * {@link RejectedExecutionException} instead of piling up.
+ */
+@Component
+public class PasswordHasher implements MeterBinder, DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    private final String dummyHash;
+
+    private Timer hashTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${jobboard.security.password.hashing.threads:0}") int threads,
+                          @Value("${jobboard.security.password.hashing.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Password hashing queue is full");
+                });
+
+        this.dummyHash = passwordEncoder.encode("password-hasher-dummy");
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Spends the same work as a real check against a throwaway hash, so an unknown email takes as long
+     * to reject as a wrong password.
+     */
+    public void matchesNothing(String rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Whether the hash was made with another algorithm or a lower cost than the one now configured.
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobboard.auth.hashing.queued", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread").register(registry);
+        Gauge.builder("jobboard.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes running").register(registry);
+        FunctionCounter.builder("jobboard.auth.hashing.rejected", rejected, LongAdder::sum)
+                .description("Password hashes refused because the queue was full").register(registry);
+        hashTimer = Timer.builder("jobboard.auth.hashing.duration")
+                .description("Time spent hashing or checking a password, excluding queueing").register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future = executor.submit(() -> {
+            Timer timer = hashTimer;
+            return timer != null ? timer.recordCallable(task) : task.call();
+        });
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o hash da senha", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package com.jobs.jobboard.config.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
@@ -32,8 +42,12 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Missing, expired or revoked access token: 401 tells the client to refresh rather than give up
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/internal/health").permitAll()
+                        .requestMatchers("/internal/**").hasRole("ADMIN")
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/users").permitAll()
                         .requestMatchers("/api/jobs", "/api/jobs/**").permitAll()
@@ -45,9 +59,32 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * New hashes use {@code jobboard.security.password.encoder} and are stored with an {@code {id}} prefix.
+     * Hashes with another id or a lower BCrypt cost are re-hashed on the user's next login; unprefixed
+     * hashes from before the prefix existed are BCrypt.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${jobboard.security.password.encoder:bcrypt}") String encodingId,
+                                           @Value("${jobboard.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalStateException("Unknown jobboard.security.password.encoder: " + encodingId);
+        }
+        if ("argon2".equals(encodingId)
+                && !ClassUtils.isPresent("org.bouncycastle.crypto.generators.Argon2BytesGenerator", null)) {
+            throw new IllegalStateException("argon2 password encoding needs org.bouncycastle:bcprov-jdk18on on the classpath");
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -0,0 +1,117 @@
+package com.jobs.jobboard.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobs.jobboard.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers "was this access token revoked?" for every authenticated request without touching the
+ * database. A bloom filter of unexpired revoked {@code jti}s is rebuilt from {@code revoked_tokens} on a
+ * fixed delay, so revocations made on other instances apply within one interval; revocations made
+ * here are added at once. Only a filter hit (a revoked token, or a rare false positive) is confirmed
+ * against the table, and the answer is cached until the next rebuild.
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Cache<String, Boolean> confirmed;
+    private final LongAdder falsePositives = new LongAdder();
+    private final AtomicLong additions = new AtomicLong();
+    private final Set<String> addedLocally = ConcurrentHashMap.newKeySet();
+
+    private volatile BloomFilter filter = BloomFilter.create(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private volatile int size;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.revocation.rebuild-interval:PT10S}") Duration rebuildInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.confirmed = Caffeine.newBuilder()
+                .expireAfterWrite(rebuildInterval)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * A filter hit is confirmed outside the cache's compute, so the query holds no cache lock (and pins
+     * no virtual thread). A "not revoked" answer that raced a local revocation is dropped again, since
+     * {@link #add} may have invalidated the entry before it was stored.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) return false;
+
+        Boolean revoked = confirmed.getIfPresent(jti);
+        if (revoked == null) {
+            long seen = additions.get();
+            revoked = revokedTokenRepository.existsById(jti);
+            confirmed.put(jti, revoked);
+            if (!revoked && additions.get() != seen) confirmed.invalidate(jti);
+        }
+
+        if (!revoked) falsePositives.increment();
+        return revoked;
+    }
+
+    /**
+     * Makes just-committed revocations effective on this instance without waiting for the next rebuild.
+     */
+    public void add(Collection<String> jtis) {
+        // Recorded before touching the filter, so a rebuild swapping filters meanwhile still sees them
+        addedLocally.addAll(jtis);
+        BloomFilter current = filter;
+        for (String jti : jtis) {
+            current.put(jti);
+        }
+        additions.incrementAndGet();
+        confirmed.invalidateAll(jtis);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT10S}")
+    public void rebuild() {
+        // add() runs after commit, so these are already in the table the query reads
+        Set<String> committed = Set.copyOf(addedLocally);
+        List<String> jtis = revokedTokenRepository.findUnexpiredJtis(LocalDateTime.now());
+
+        // Headroom for the revocations added locally before the next rebuild
+        BloomFilter rebuilt = BloomFilter.create(Math.max(MIN_CAPACITY, jtis.size() * 2), FALSE_POSITIVE_RATE);
+        for (String jti : jtis) {
+            rebuilt.put(jti);
+        }
+
+        filter = rebuilt;
+        // Revocations added while the table was read may have gone into the old filter only
+        addedLocally.forEach(rebuilt::put);
+        addedLocally.removeAll(committed);
+        size = jtis.size();
+        confirmed.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobboard.jwt.revoked", this, list -> list.size)
+                .description("Unexpired revoked access tokens in the last rebuild").register(registry);
+        Gauge.builder("jobboard.jwt.revocation.filter.bits", this, list -> list.filter.bitCount())
+                .baseUnit("bits").register(registry);
+        FunctionCounter.builder("jobboard.jwt.revocation.false-positives", falsePositives, LongAdder::sum)
+                .description("Filter hits the revoked_tokens table did not confirm").register(registry);
+    }
+}
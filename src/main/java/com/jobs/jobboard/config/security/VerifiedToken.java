@@ -0,0 +1,11 @@
+package com.jobs.jobboard.config.security;
+
+import java.time.Instant;
+
+/**
+ * An access token whose signature and expiry have been checked, with the {@code jti} needed for the
+ * revocation check and the epoch its company claim was issued under. {@code jti} is null for tokens
+ * issued before tokens carried one.
+ */
+public record VerifiedToken(AuthenticatedPrincipal principal, String jti, long authzEpoch, Instant expiresAt) {
+}
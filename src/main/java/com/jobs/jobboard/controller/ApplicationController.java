@@ -1,15 +1,19 @@
 package com.jobs.jobboard.controller;
 
+import com.jobs.jobboard.dto.request.BatchApplicationRequest;
+import com.jobs.jobboard.dto.request.CountMode;
 import com.jobs.jobboard.dto.request.CreateApplicationRequest;
 import com.jobs.jobboard.dto.request.UpdateApplicationStatusRequest;
 import com.jobs.jobboard.dto.response.ApplicationResponse;
+import com.jobs.jobboard.dto.response.BatchApplicationResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
 import com.jobs.jobboard.entity.ApplicationStatus;
+import com.jobs.jobboard.repository.projection.ApplicationVersion;
 import com.jobs.jobboard.service.ApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -17,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -43,11 +48,23 @@ public class ApplicationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(application);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    @Operation(summary = "Apply to several job vacancies at once (candidate only)")
+    public ResponseEntity<BatchApplicationResponse> createApplications(@Valid @RequestBody BatchApplicationRequest request) {
+        return ResponseEntity.ok(applicationService.createApplications(request.getApplications()));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CANDIDATE', 'COMPANY', 'ADMIN')")
-    @Operation(summary = "Get an application by id")
-    public ResponseEntity<ApplicationResponse> getApplicationById(@PathVariable Long id) {
-        ApplicationResponse application = applicationService.getApplicationById(id);
+    @Operation(summary = "Get an application by id (supports If-None-Match / If-Modified-Since)")
+    public ResponseEntity<ApplicationResponse> getApplicationById(@PathVariable Long id, WebRequest webRequest) {
+        ApplicationVersion version = applicationService.getApplicationVersion(id);
+        if (webRequest.checkNotModified(version.eTag("application"), version.lastModified())) {
+            return null;
+        }
+
+        ApplicationResponse application = applicationService.getApplicationById(version);
         return ResponseEntity.ok(application);
     }
 
@@ -61,14 +78,15 @@ public class ApplicationController {
 
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('COMPANY')")
-    @Operation(summary = "List applications for a job vacancy with pagination (company only, must own the job)")
-    public ResponseEntity<Page<ApplicationResponse>> getApplicationsByJob(
+    @Operation(summary = "List applications for a job vacancy with pagination (company only, must own the job; count=EXACT|CAPPED|ESTIMATED)")
+    public ResponseEntity<CountedPage<ApplicationResponse>> getApplicationsByJob(
             @PathVariable Long jobId,
             @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(name = "count", defaultValue = "${jobboard.pagination.count-mode:EXACT}") CountMode countMode,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Page<ApplicationResponse> applications = applicationService.getApplicationsByJob(jobId, status, pageable);
-        return ResponseEntity.ok(applications);
+        CountedPage<ApplicationResponse> applications = applicationService.getApplicationsByJob(jobId, status, pageable, countMode);
+        return ResponseEntity.ok().header(CountedPage.COUNT_MODE_HEADER, applications.getCountMode().name()).body(applications);
     }
 
     @PatchMapping("/{id}/status")
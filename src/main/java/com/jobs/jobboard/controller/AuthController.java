@@ -2,18 +2,22 @@ package com.jobs.jobboard.controller;
 
 import com.jobs.jobboard.dto.request.CreateUserRequest;
 import com.jobs.jobboard.dto.request.LoginRequest;
+import com.jobs.jobboard.dto.request.RefreshTokenRequest;
 import com.jobs.jobboard.dto.response.LoginResponse;
 import com.jobs.jobboard.dto.response.UserResponse;
 import com.jobs.jobboard.service.AuthService;
 import com.jobs.jobboard.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -40,8 +44,24 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Login and receive a JWT token")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+        LoginResponse response = authService.login(request, servletRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Exchange a refresh token for a new access and refresh token pair")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the session of the given access token and/or refresh token")
+    public ResponseEntity<Void> logout(@RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,8 @@ package com.jobs.jobboard.controller;
 
 import com.jobs.jobboard.dto.request.CreateCompanyRequest;
 import com.jobs.jobboard.dto.response.CompanyResponse;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.repository.projection.ResourceVersion;
 import com.jobs.jobboard.service.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/companies")
@@ -38,9 +41,14 @@ public class CompanyController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get a company by id")
-    public ResponseEntity<CompanyResponse> getCompanyById(@PathVariable Long id) {
+    @Operation(summary = "Get a company by id (supports If-None-Match / If-Modified-Since)")
+    public ResponseEntity<CompanyResponse> getCompanyById(@PathVariable Long id, WebRequest webRequest) {
         CompanyResponse company = companyService.getCompanyById(id);
+        ResourceVersion version = ResourceVersion.of(company.getId(), company.getCreatedAt(), company.getUpdatedAt());
+        if (webRequest.checkNotModified(version.eTag("company"), version.lastModified())) {
+            return null;
+        }
+
         return ResponseEntity.ok(company);
     }
 
@@ -52,6 +60,13 @@ public class CompanyController {
         return ResponseEntity.ok(company);
     }
 
+    @GetMapping("/my-company/stats")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Application totals per job, per status and per day, plus average time to decision, for the current user's company")
+    public ResponseEntity<CompanyStatsResponse> getMyCompanyStats() {
+        return ResponseEntity.ok(companyService.getMyCompanyStats());
+    }
+
     @PutMapping
     @PreAuthorize("hasRole('COMPANY')")
     @Operation(summary = "Update the current user's company profile")
@@ -1,22 +1,28 @@
 package com.jobs.jobboard.controller;
 
+import com.jobs.jobboard.dto.request.CountMode;
 import com.jobs.jobboard.dto.request.CreateJobRequest;
 import com.jobs.jobboard.dto.request.UpdateJobRequest;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.CursorPage;
 import com.jobs.jobboard.dto.response.JobResponse;
 import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.repository.projection.ResourceVersion;
 import com.jobs.jobboard.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -47,22 +53,46 @@ public class JobController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get a job vacancy by id")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id) {
+    @Operation(summary = "Get a job vacancy by id (supports If-None-Match / If-Modified-Since)")
+    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id, WebRequest webRequest) {
+        // Validators come from the (possibly cached) body itself, so the two always describe one snapshot
         JobResponse job = jobService.getJobById(id);
+        ResourceVersion version = ResourceVersion.of(job.getId(), job.getCreatedAt(),
+                job.getUpdatedAt(), job.getCompany().getUpdatedAt());
+        if (webRequest.checkNotModified(version.eTag("job"), version.lastModified())) {
+            return null;
+        }
+
         return ResponseEntity.ok(job);
     }
 
     @GetMapping
-    @Operation(summary = "Search job vacancies with pagination, filters and sorting")
-    public ResponseEntity<Page<JobResponse>> searchJobs(
+    @Operation(summary = "Search job vacancies with pagination, filters and sorting (q searches title, description, location and company; sort=relevance ranks by match; count=EXACT|CAPPED|ESTIMATED)")
+    public ResponseEntity<CountedPage<JobResponse>> searchJobs(
+            @RequestParam(name = "q", required = false) String keyword,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) Long companyId,
             @RequestParam(name = "company", required = false) String companyName,
             @RequestParam(required = false) JobStatus status,
+            @RequestParam(name = "count", defaultValue = "${jobboard.pagination.count-mode:EXACT}") CountMode countMode,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Page<JobResponse> jobs = jobService.searchJobs(title, companyId, companyName, status, pageable);
+        CountedPage<JobResponse> jobs = jobService.searchJobs(keyword, title, companyId, companyName, status, pageable, countMode);
+        return ResponseEntity.ok().header(CountedPage.COUNT_MODE_HEADER, jobs.getCountMode().name()).body(jobs);
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    @Operation(summary = "Search job vacancies with cursor (keyset) pagination, newest first, without total count")
+    public ResponseEntity<CursorPage<JobResponse>> searchJobsByCursor(
+            @RequestParam(name = "q", required = false) String keyword,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(name = "company", required = false) String companyName,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<JobResponse> jobs = jobService.searchJobsByCursor(keyword, title, companyId, companyName, status, cursor, size);
         return ResponseEntity.ok(jobs);
     }
 
@@ -72,6 +102,14 @@ public class JobController {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
 
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all job vacancies as NDJSON (Accept: application/x-ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportAllJobs() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> jobService.exportJobs(null, output));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "List job vacancies by status (no pagination)")
     public ResponseEntity<List<JobResponse>> getJobsByStatus(@PathVariable JobStatus status) {
@@ -79,13 +117,33 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
 
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream job vacancies by status as NDJSON (Accept: application/x-ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportJobsByStatus(@PathVariable JobStatus status) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> jobService.exportJobs(status, output));
+    }
+
     @GetMapping("/my-jobs")
     @PreAuthorize("hasRole('COMPANY')")
-    @Operation(summary = "List jobs from the current company (pagination supported)")
-    public ResponseEntity<Page<JobResponse>> getMyCompanyJobs(
+    @Operation(summary = "List jobs from the current company (pagination supported; count=EXACT|CAPPED|ESTIMATED)")
+    public ResponseEntity<CountedPage<JobResponse>> getMyCompanyJobs(
+            @RequestParam(name = "count", defaultValue = "${jobboard.pagination.count-mode:EXACT}") CountMode countMode,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        return ResponseEntity.ok(jobService.getMyCompanyJobs(pageable));
+        CountedPage<JobResponse> jobs = jobService.getMyCompanyJobs(pageable, countMode);
+        return ResponseEntity.ok().header(CountedPage.COUNT_MODE_HEADER, jobs.getCountMode().name()).body(jobs);
+    }
+
+    @GetMapping(value = "/my-jobs", params = "pagination=cursor")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "List jobs from the current company with cursor (keyset) pagination, newest first")
+    public ResponseEntity<CursorPage<JobResponse>> getMyCompanyJobsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(jobService.getMyCompanyJobsByCursor(cursor, size));
     }
 
     @PutMapping("/{id}")
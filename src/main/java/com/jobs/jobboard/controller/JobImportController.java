@@ -0,0 +1,78 @@
+package com.jobs.jobboard.controller;
+
+import com.jobs.jobboard.dto.response.JobImportErrorResponse;
+import com.jobs.jobboard.dto.response.JobImportResponse;
+import com.jobs.jobboard.entity.JobImportFormat;
+import com.jobs.jobboard.service.JobImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs/import")
+@Tag(name = "Job imports", description = "Bulk job vacancy import from CSV or NDJSON (company only)")
+public class JobImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final JobImportService jobImportService;
+
+    @Autowired
+    public JobImportController(JobImportService jobImportService) {
+        this.jobImportService = jobImportService;
+    }
+
+    @PostMapping(consumes = TEXT_CSV)
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Import job vacancies from a UTF-8 CSV body with a header row; runs in the background")
+    public ResponseEntity<JobImportResponse> importCsv(HttpServletRequest request) throws IOException {
+        return accepted(jobImportService.start(JobImportFormat.CSV, request.getInputStream()));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Import job vacancies from an NDJSON body (one create-job object per line); runs in the background")
+    public ResponseEntity<JobImportResponse> importNdjson(HttpServletRequest request) throws IOException {
+        return accepted(jobImportService.start(JobImportFormat.NDJSON, request.getInputStream()));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Get the status and progress of an import")
+    public ResponseEntity<JobImportResponse> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(jobImportService.getImport(id));
+    }
+
+    @GetMapping("/{id}/errors")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "List rejected rows of an import in line order, size at a time after the given line")
+    public ResponseEntity<List<JobImportErrorResponse>> getErrors(
+            @PathVariable Long id,
+            @RequestParam(name = "after", defaultValue = "0") int afterLine,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(jobImportService.getErrors(id, afterLine, size));
+    }
+
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Resume a failed import after its last committed chunk")
+    public ResponseEntity<JobImportResponse> resume(@PathVariable Long id) {
+        return accepted(jobImportService.resume(id));
+    }
+
+    private static ResponseEntity<JobImportResponse> accepted(JobImportResponse jobImport) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/jobs/import/" + jobImport.getId())
+                .body(jobImport);
+    }
+}
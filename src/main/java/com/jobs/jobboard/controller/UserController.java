@@ -66,4 +66,12 @@ public class UserController {
         List<UserResponse> users = userService.getAllUsers();
         return ResponseEntity.ok(users);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/{id}/revoke-sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke every refresh and access token of a user (admin only)")
+    public ResponseEntity<Void> revokeSessions(@PathVariable Long id) {
+        userService.revokeSessions(id);
+        return ResponseEntity.noContent().build();
+    }
+}
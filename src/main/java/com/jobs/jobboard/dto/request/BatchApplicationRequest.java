@@ -0,0 +1,24 @@
+package com.jobs.jobboard.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchApplicationRequest {
+
+    @NotEmpty(message = "Informe ao menos uma candidatura")
+    @Size(max = 100, message = "Máximo de 100 candidaturas por lote")
+    private List<@Valid CreateApplicationRequest> applications;
+
+    public BatchApplicationRequest() {}
+
+    public List<CreateApplicationRequest> getApplications() {
+        return applications;
+    }
+
+    public void setApplications(List<CreateApplicationRequest> applications) {
+        this.applications = applications;
+    }
+}
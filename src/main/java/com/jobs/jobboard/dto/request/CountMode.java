@@ -0,0 +1,16 @@
+package com.jobs.jobboard.dto.request;
+
+/**
+ * How the {@code totalElements} of a page is obtained.
+ */
+public enum CountMode {
+
+    /** {@code COUNT(*)} over every matching row. */
+    EXACT,
+
+    /** Counts up to the configured cap; a total equal to the cap means "at least that many". */
+    CAPPED,
+
+    /** Planner statistics or maintained counters; falls back to {@link #CAPPED} when neither is available. */
+    ESTIMATED
+}
@@ -0,0 +1,23 @@
+package com.jobs.jobboard.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token é obrigatório")
+    private String refreshToken;
+
+    public RefreshTokenRequest() {}
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jobs.jobboard.dto.response;
+
+public class BatchApplicationItemResponse {
+
+    private Long jobId;
+    private boolean created;
+    private ApplicationResponse application;
+    private String error;
+
+    public BatchApplicationItemResponse() {}
+
+    public BatchApplicationItemResponse(Long jobId, boolean created, ApplicationResponse application, String error) {
+        this.jobId = jobId;
+        this.created = created;
+        this.application = application;
+        this.error = error;
+    }
+
+    public static BatchApplicationItemResponse created(ApplicationResponse application) {
+        return new BatchApplicationItemResponse(application.getJob().getId(), true, application, null);
+    }
+
+    public static BatchApplicationItemResponse rejected(Long jobId, String error) {
+        return new BatchApplicationItemResponse(jobId, false, null, error);
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    public ApplicationResponse getApplication() {
+        return application;
+    }
+
+    public void setApplication(ApplicationResponse application) {
+        this.application = application;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
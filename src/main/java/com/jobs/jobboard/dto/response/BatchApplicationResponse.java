@@ -0,0 +1,42 @@
+package com.jobs.jobboard.dto.response;
+
+import java.util.List;
+
+public class BatchApplicationResponse {
+
+    private int created;
+    private int rejected;
+    private List<BatchApplicationItemResponse> results;
+
+    public BatchApplicationResponse() {}
+
+    public BatchApplicationResponse(List<BatchApplicationItemResponse> results) {
+        this.results = results;
+        this.created = (int) results.stream().filter(BatchApplicationItemResponse::isCreated).count();
+        this.rejected = results.size() - created;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BatchApplicationItemResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchApplicationItemResponse> results) {
+        this.results = results;
+    }
+}
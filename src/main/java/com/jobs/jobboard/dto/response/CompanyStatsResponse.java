@@ -0,0 +1,81 @@
+package com.jobs.jobboard.dto.response;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompanyStatsResponse {
+
+    private Long companyId;
+    private long totalApplications;
+    private Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+    private long decidedApplications;
+    private Double averageHoursToDecision;
+    private List<DailyApplicationsResponse> perDay = new ArrayList<>();
+    private List<JobApplicationStatsResponse> jobs = new ArrayList<>();
+
+    public CompanyStatsResponse() {}
+
+    public CompanyStatsResponse(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public Map<ApplicationStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<ApplicationStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public long getDecidedApplications() {
+        return decidedApplications;
+    }
+
+    public void setDecidedApplications(long decidedApplications) {
+        this.decidedApplications = decidedApplications;
+    }
+
+    public Double getAverageHoursToDecision() {
+        return averageHoursToDecision;
+    }
+
+    public void setAverageHoursToDecision(Double averageHoursToDecision) {
+        this.averageHoursToDecision = averageHoursToDecision;
+    }
+
+    public List<DailyApplicationsResponse> getPerDay() {
+        return perDay;
+    }
+
+    public void setPerDay(List<DailyApplicationsResponse> perDay) {
+        this.perDay = perDay;
+    }
+
+    public List<JobApplicationStatsResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobApplicationStatsResponse> jobs) {
+        this.jobs = jobs;
+    }
+}
@@ -1,17 +1,21 @@
 package com.jobs.jobboard.dto.response;
 
+import java.time.LocalDateTime;
+
 public class CompanySummaryResponse {
 
     private Long id;
     private String name;
     private String website;
+    private LocalDateTime updatedAt;
 
     public CompanySummaryResponse() {}
 
-    public CompanySummaryResponse(Long id, String name, String website) {
+    public CompanySummaryResponse(Long id, String name, String website, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.website = website;
+        this.updatedAt = updatedAt;
     }
 
     public Long getId() {
@@ -37,5 +41,12 @@ public class CompanySummaryResponse {
     public void setWebsite(String website) {
         this.website = website;
     }
-}
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
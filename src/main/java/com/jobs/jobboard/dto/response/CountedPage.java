@@ -0,0 +1,38 @@
+package com.jobs.jobboard.dto.response;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page whose {@code totalElements} was produced by {@link #getCountMode()}: the mode actually used,
+ * which is {@code EXACT} whenever the total was known for certain regardless of the mode requested.
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    public static final String COUNT_MODE_HEADER = "X-Total-Count-Mode";
+
+    private final CountMode countMode;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, CountMode countMode) {
+        super(content, pageable, total);
+        this.countMode = countMode;
+    }
+
+    public static <T> CountedPage<T> exact(Page<T> page) {
+        return new CountedPage<>(page.getContent(), page.getPageable(), page.getTotalElements(), CountMode.EXACT);
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), countMode);
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobs.jobboard.dto.response;
+
+import java.time.LocalDate;
+
+public class DailyApplicationsResponse {
+
+    private LocalDate date;
+    private long applications;
+
+    public DailyApplicationsResponse() {}
+
+    public DailyApplicationsResponse(LocalDate date, long applications) {
+        this.date = date;
+        this.applications = applications;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobs.jobboard.dto.response;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class JobApplicationStatsResponse {
+
+    private Long jobId;
+    private String title;
+    private long total;
+    private Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+
+    public JobApplicationStatsResponse() {}
+
+    public JobApplicationStatsResponse(Long jobId, String title) {
+        this.jobId = jobId;
+        this.title = title;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<ApplicationStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<ApplicationStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+}
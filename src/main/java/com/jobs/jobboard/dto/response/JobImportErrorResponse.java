@@ -0,0 +1,30 @@
+package com.jobs.jobboard.dto.response;
+
+public class JobImportErrorResponse {
+
+    private int line;
+    private String message;
+
+    public JobImportErrorResponse() {}
+
+    public JobImportErrorResponse(int line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
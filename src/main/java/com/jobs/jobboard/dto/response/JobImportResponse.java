@@ -0,0 +1,115 @@
+package com.jobs.jobboard.dto.response;
+
+import com.jobs.jobboard.entity.JobImportFormat;
+import com.jobs.jobboard.entity.JobImportStatus;
+
+import java.time.LocalDateTime;
+
+public class JobImportResponse {
+
+    private Long id;
+    private JobImportFormat format;
+    private JobImportStatus status;
+    private int processedRows;
+    private int importedRows;
+    private int failedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public JobImportResponse() {}
+
+    public JobImportResponse(Long id, JobImportFormat format, JobImportStatus status, int processedRows, int importedRows, int failedRows, String error, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime finishedAt) {
+        this.id = id;
+        this.format = format;
+        this.status = status;
+        this.processedRows = processedRows;
+        this.importedRows = importedRows;
+        this.failedRows = failedRows;
+        this.error = error;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(JobImportFormat format) {
+        this.format = format;
+    }
+
+    public JobImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobImportStatus status) {
+        this.status = status;
+    }
+
+    public int getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public int getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(int importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(int failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobs.jobboard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jobs.jobboard.entity.JobStatus;
 
 import java.math.BigDecimal;
@@ -18,6 +19,10 @@ public class JobResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Only filled in for the owning company's listings
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ApplicationCountsResponse applications;
+
     public JobResponse() {}
 
     public JobResponse(
@@ -123,5 +128,12 @@ public class JobResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public ApplicationCountsResponse getApplications() {
+        return applications;
+    }
+
+    public void setApplications(ApplicationCountsResponse applications) {
+        this.applications = applications;
+    }
+}
@@ -3,6 +3,7 @@ package com.jobs.jobboard.dto.response;
 public class LoginResponse {
 
     private String token;
+    private String refreshToken;
     private UserResponse user;
 
     public LoginResponse() {}
@@ -12,6 +13,12 @@ public class LoginResponse {
         this.user = user;
     }
 
+    public LoginResponse(String token, String refreshToken, UserResponse user) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.user = user;
+    }
+
     public String getToken() {
         return token;
     }
@@ -20,6 +27,14 @@ public class LoginResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public UserResponse getUser() {
         return user;
     }
@@ -5,11 +5,17 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "applications",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"candidate_id", "job_vacancy_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"candidate_id", "job_vacancy_id"}),
+        indexes = {
+                // Partial (live rows only) on Postgres, see 020-soft-delete-partial-indexes.sql
+                @Index(name = "idx_applications_job_status_created", columnList = "job_vacancy_id, status, created_at"),
+                @Index(name = "idx_applications_candidate_created", columnList = "candidate_id, created_at")
+        })
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,6 +33,9 @@ public class Application {
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.PENDING;  // NOVO
 
+    @Column(name = "decided_at")
+    private LocalDateTime decidedAt;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -89,6 +98,14 @@ public class Application {
         this.status = status;
     }
 
+    public LocalDateTime getDecidedAt() {
+        return decidedAt;
+    }
+
+    public void setDecidedAt(LocalDateTime decidedAt) {
+        this.decidedAt = decidedAt;
+    }
+
     public LocalDateTime getDeletedAt() {
         return deletedAt;
     }
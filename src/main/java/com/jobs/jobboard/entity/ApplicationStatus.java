@@ -4,5 +4,9 @@ public enum ApplicationStatus {
     PENDING,
     REVIEWING,
     APPROVED,
-    REJECTED
-}
\ No newline at end of file
+    REJECTED;
+
+    public boolean isDecision() {
+        return this == APPROVED || this == REJECTED;
+    }
+}
@@ -11,7 +11,8 @@ import java.util.List;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+    @SequenceGenerator(name = "companies_seq", sequenceName = "companies_seq", allocationSize = 10)
     private Long id;
 
     @Column(nullable = false)
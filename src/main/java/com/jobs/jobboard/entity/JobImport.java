@@ -0,0 +1,167 @@
+package com.jobs.jobboard.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A bulk job upload being processed in the background. The uploaded file is kept in the spool
+ * directory until the import completes; {@code processedRows} is advanced in the same transaction
+ * as each chunk of jobs, so a resumed import skips exactly the rows already committed.
+ */
+@Entity
+@Table(name = "job_imports", indexes = {
+        @Index(name = "idx_job_imports_company", columnList = "company_id"),
+        @Index(name = "idx_job_imports_status", columnList = "status")
+})
+public class JobImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_imports_seq")
+    @SequenceGenerator(name = "job_imports_seq", sequenceName = "job_imports_seq", allocationSize = 20)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobImportStatus status = JobImportStatus.PENDING;
+
+    @Column(name = "spool_file", nullable = false)
+    private String spoolFile;
+
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private int importedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private int failedRows;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public JobImport() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+
+    public void setCompany(Company company) {
+        this.company = company;
+    }
+
+    public JobImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(JobImportFormat format) {
+        this.format = format;
+    }
+
+    public JobImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobImportStatus status) {
+        this.status = status;
+    }
+
+    public String getSpoolFile() {
+        return spoolFile;
+    }
+
+    public void setSpoolFile(String spoolFile) {
+        this.spoolFile = spoolFile;
+    }
+
+    public int getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public int getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(int importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public int getFailedRows() {
+        return failedRows;
+    }
+
+    public void setFailedRows(int failedRows) {
+        this.failedRows = failedRows;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
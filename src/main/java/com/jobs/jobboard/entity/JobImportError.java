@@ -0,0 +1,68 @@
+package com.jobs.jobboard.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * A row of a {@link JobImport} that was rejected, identified by the line it starts on in the upload.
+ */
+@Entity
+@Table(name = "job_import_errors", indexes = {
+        @Index(name = "idx_job_import_errors_import_line", columnList = "job_import_id, line_number")
+})
+public class JobImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_import_errors_seq")
+    @SequenceGenerator(name = "job_import_errors_seq", sequenceName = "job_import_errors_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_import_id", nullable = false)
+    private JobImport jobImport;
+
+    @Column(name = "line_number", nullable = false)
+    private int line;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    public JobImportError() {}
+
+    public JobImportError(JobImport jobImport, int line, String message) {
+        this.jobImport = jobImport;
+        this.line = line;
+        this.message = message;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobImport getJobImport() {
+        return jobImport;
+    }
+
+    public void setJobImport(JobImport jobImport) {
+        this.jobImport = jobImport;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobs.jobboard.entity;
+
+public enum JobImportFormat {
+    CSV,
+    NDJSON
+}
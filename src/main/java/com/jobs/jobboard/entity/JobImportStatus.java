@@ -0,0 +1,8 @@
+package com.jobs.jobboard.entity;
+
+public enum JobImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -2,17 +2,23 @@ package com.jobs.jobboard.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "job_vacancies")
+@Table(name = "job_vacancies", indexes = {
+        // Live-row (deleted_at IS NULL) partial versions on Postgres: db/postgres/020-soft-delete-partial-indexes.sql
+        @Index(name = "idx_job_vacancies_company_created", columnList = "company_id, created_at"),
+        @Index(name = "idx_job_vacancies_status_created", columnList = "status, created_at")
+})
 public class JobVacancy {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_vacancies_seq")
+    @SequenceGenerator(name = "job_vacancies_seq", sequenceName = "job_vacancies_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -42,6 +48,30 @@ public class JobVacancy {
     @JsonIgnore
     private List<Application> applications = new ArrayList<>();
 
+    /*
+     * Application counters, maintained with relative UPDATEs by ApplicationCounterService and
+     * reconciled periodically. Never written through the entity so a stale copy cannot overwrite them.
+     */
+    @ColumnDefault("0")
+    @Column(name = "applications_total", nullable = false, updatable = false)
+    private int applicationsTotal;
+
+    @ColumnDefault("0")
+    @Column(name = "applications_pending", nullable = false, updatable = false)
+    private int applicationsPending;
+
+    @ColumnDefault("0")
+    @Column(name = "applications_reviewing", nullable = false, updatable = false)
+    private int applicationsReviewing;
+
+    @ColumnDefault("0")
+    @Column(name = "applications_approved", nullable = false, updatable = false)
+    private int applicationsApproved;
+
+    @ColumnDefault("0")
+    @Column(name = "applications_rejected", nullable = false, updatable = false)
+    private int applicationsRejected;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -136,6 +166,46 @@ public class JobVacancy {
         this.applications = applications;
     }
 
+    public int getApplicationsTotal() {
+        return applicationsTotal;
+    }
+
+    public void setApplicationsTotal(int applicationsTotal) {
+        this.applicationsTotal = applicationsTotal;
+    }
+
+    public int getApplicationsPending() {
+        return applicationsPending;
+    }
+
+    public void setApplicationsPending(int applicationsPending) {
+        this.applicationsPending = applicationsPending;
+    }
+
+    public int getApplicationsReviewing() {
+        return applicationsReviewing;
+    }
+
+    public void setApplicationsReviewing(int applicationsReviewing) {
+        this.applicationsReviewing = applicationsReviewing;
+    }
+
+    public int getApplicationsApproved() {
+        return applicationsApproved;
+    }
+
+    public void setApplicationsApproved(int applicationsApproved) {
+        this.applicationsApproved = applicationsApproved;
+    }
+
+    public int getApplicationsRejected() {
+        return applicationsRejected;
+    }
+
+    public void setApplicationsRejected(int applicationsRejected) {
+        this.applicationsRejected = applicationsRejected;
+    }
+
     public LocalDateTime getDeletedAt() {
         return deletedAt;
     }
@@ -0,0 +1,84 @@
+package com.jobs.jobboard.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An access token (by {@code jti}) rejected before its expiry. Rows are useless once the token would
+ * have expired anyway and are purged after that.
+ *
+ * <p>The id is assigned, so Spring Data cannot tell a new row from an existing one and {@code save}
+ * would merge, selecting every row first. {@link #isNew()} says a token not loaded or persisted yet is
+ * new, so revocations are plain batched inserts.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at"))
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+
+    @Transient
+    private boolean persisted;
+
+    @PrePersist
+    protected void onCreate() {
+        revokedAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        persisted = true;
+    }
+
+    public RevokedToken() {}
+
+    public RevokedToken(String jti, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(LocalDateTime revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
@@ -11,7 +11,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 20)
     private Long id;
 
     @Column(nullable = false)
@@ -31,9 +32,10 @@ public class User {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Bumped whenever the ownership claims in this user's access tokens stop being true
+    @Column(name = "authz_epoch", nullable = false)
     @JsonIgnore
-    private Company company;
+    private long authzEpoch;
 
     @OneToMany(mappedBy = "candidate", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
@@ -106,16 +108,16 @@ public class User {
         this.deletedAt = deletedAt;
     }
 
-    public boolean isDeleted() {
-        return deletedAt != null;
+    public long getAuthzEpoch() {
+        return authzEpoch;
     }
 
-    public Company getCompany() {
-        return company;
+    public void setAuthzEpoch(long authzEpoch) {
+        this.authzEpoch = authzEpoch;
     }
 
-    public void setCompany(Company company) {
-        this.company = company;
+    public boolean isDeleted() {
+        return deletedAt != null;
     }
 
     public List<Application> getApplications() {
@@ -0,0 +1,156 @@
+package com.jobs.jobboard.importing;
+
+import com.jobs.jobboard.dto.request.CreateJobRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV: a header row naming the columns (title, description, location, salaryMin, salaryMax,
+ * in any order and case, salary_min also accepted), comma separators, and double quotes around fields
+ * that contain commas, quotes or line breaks. Blank lines are skipped.
+ */
+class CsvJobImportReader implements JobImportReader {
+
+    private enum Column { TITLE, DESCRIPTION, LOCATION, SALARY_MIN, SALARY_MAX }
+
+    private final BufferedReader reader;
+    private final int maxRecordChars;
+    private final Column[] columns;
+
+    private int line = 1;
+
+    CsvJobImportReader(Reader reader, int maxRecordChars) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.maxRecordChars = maxRecordChars;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("Arquivo CSV vazio");
+        }
+
+        this.columns = new Column[header.size()];
+        boolean hasTitle = false;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").replaceAll("[_\\-\\s]", "").toLowerCase(Locale.ROOT);
+            columns[i] = switch (name) {
+                case "title" -> Column.TITLE;
+                case "description" -> Column.DESCRIPTION;
+                case "location" -> Column.LOCATION;
+                case "salarymin" -> Column.SALARY_MIN;
+                case "salarymax" -> Column.SALARY_MAX;
+                default -> throw new IOException("Coluna desconhecida no cabeçalho do CSV: " + header.get(i));
+            };
+            hasTitle |= columns[i] == Column.TITLE;
+        }
+
+        if (!hasTitle) {
+            throw new IOException("Cabeçalho do CSV sem a coluna title");
+        }
+    }
+
+    @Override
+    public JobImportRow next() throws IOException {
+        while (true) {
+            int start = line;
+            List<String> fields = readRecord();
+            if (fields == null) return null;
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue;
+
+            if (fields.size() > columns.length) {
+                return JobImportRow.unreadable(start,
+                        "Registro com " + fields.size() + " colunas, o cabeçalho tem " + columns.length);
+            }
+            return toRow(start, fields);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private JobImportRow toRow(int start, List<String> fields) {
+        CreateJobRequest request = new CreateJobRequest();
+
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i).isBlank() ? null : fields.get(i).strip();
+            switch (columns[i]) {
+                case TITLE -> request.setTitle(value);
+                case DESCRIPTION -> request.setDescription(value);
+                case LOCATION -> request.setLocation(value);
+                case SALARY_MIN, SALARY_MAX -> {
+                    BigDecimal salary;
+                    try {
+                        salary = value != null ? new BigDecimal(value) : null;
+                    } catch (NumberFormatException e) {
+                        String field = columns[i] == Column.SALARY_MIN ? "salaryMin" : "salaryMax";
+                        return JobImportRow.unreadable(start, field + ": valor numérico inválido");
+                    }
+                    if (columns[i] == Column.SALARY_MIN) request.setSalaryMin(salary);
+                    else request.setSalaryMax(salary);
+                }
+            }
+        }
+
+        return JobImportRow.parsed(start, request);
+    }
+
+    /**
+     * Reads one record, or returns null at the end of the file.
+     */
+    private List<String> readRecord() throws IOException {
+        int start = line;
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int chars = 0;
+
+        while (true) {
+            if (c == -1) {
+                if (quoted) throw new IOException("Aspas sem fechamento no registro da linha " + start);
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++chars > maxRecordChars) {
+                throw new IOException("Registro da linha " + start + " excede " + maxRecordChars + " caracteres");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            c = reader.read();
+        }
+    }
+}
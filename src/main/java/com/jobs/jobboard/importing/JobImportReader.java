@@ -0,0 +1,29 @@
+package com.jobs.jobboard.importing;
+
+import com.jobs.jobboard.entity.JobImportFormat;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads an upload one record at a time, so memory use does not depend on the file size. A record that
+ * cannot be turned into a request comes back as an unreadable row; only damage that makes the rest of
+ * the file unreadable (an unterminated quote, a record over the size limit) is thrown.
+ */
+public interface JobImportReader extends Closeable {
+
+    /**
+     * Returns the next record, or null at the end of the file.
+     */
+    JobImportRow next() throws IOException;
+
+    static JobImportReader open(JobImportFormat format, Reader reader, ObjectMapper objectMapper,
+                                int maxRecordChars) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvJobImportReader(reader, maxRecordChars);
+            case NDJSON -> new NdjsonJobImportReader(reader, objectMapper, maxRecordChars);
+        };
+    }
+}
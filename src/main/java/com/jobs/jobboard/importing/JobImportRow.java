@@ -0,0 +1,18 @@
+package com.jobs.jobboard.importing;
+
+import com.jobs.jobboard.dto.request.CreateJobRequest;
+
+/**
+ * One record of an upload, starting at {@code line}: either a request still to be validated, or the
+ * reason it could not be read.
+ */
+public record JobImportRow(int line, CreateJobRequest request, String error) {
+
+    public static JobImportRow parsed(int line, CreateJobRequest request) {
+        return new JobImportRow(line, request, null);
+    }
+
+    public static JobImportRow unreadable(int line, String error) {
+        return new JobImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobs.jobboard.importing;
+
+import com.jobs.jobboard.dto.request.CreateJobRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Newline-delimited JSON: one {@code CreateJobRequest} object per line, the same shape accepted by
+ * {@code POST /api/jobs}. Blank lines are skipped; a line that is not valid JSON is an unreadable row.
+ */
+class NdjsonJobImportReader implements JobImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordChars;
+    private final StringBuilder buffer = new StringBuilder();
+
+    private int line;
+
+    NdjsonJobImportReader(Reader reader, ObjectMapper objectMapper, int maxRecordChars) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    @Override
+    public JobImportRow next() throws IOException {
+        while (readLine()) {
+            String json = buffer.toString().strip();
+            if (line == 1) json = json.replace("\uFEFF", "");
+            if (json.isEmpty()) continue;
+
+            try {
+                return JobImportRow.parsed(line, objectMapper.readValue(json, CreateJobRequest.class));
+            } catch (JacksonException e) {
+                return JobImportRow.unreadable(line, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // BufferedReader.readLine has no length limit, so a file without line breaks would be read whole
+    private boolean readLine() throws IOException {
+        buffer.setLength(0);
+        int c = reader.read();
+        if (c == -1) return false;
+
+        line++;
+        while (c != -1 && c != '\n') {
+            if (buffer.length() >= maxRecordChars) {
+                throw new IOException("Linha " + line + " excede " + maxRecordChars + " caracteres");
+            }
+            buffer.append((char) c);
+            c = reader.read();
+        }
+        return true;
+    }
+}
@@ -2,23 +2,89 @@ package com.jobs.jobboard.repository;
 
 import com.jobs.jobboard.entity.Application;
 import com.jobs.jobboard.entity.ApplicationStatus;
+import com.jobs.jobboard.repository.projection.ApplicationOwnership;
+import com.jobs.jobboard.repository.projection.ApplicationVersion;
+import com.jobs.jobboard.repository.projection.CompanyApplicationStats;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
-    @Query("SELECT a FROM Application a WHERE a.id = :id AND a.deletedAt IS NULL")
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE a.id = :id AND a.deletedAt IS NULL
+    """)
     Optional<Application> findByIdAndNotDeleted(@Param("id") Long id);
 
-    @Query("SELECT a FROM Application a WHERE a.deletedAt IS NULL")
+    @Query("""
+        SELECT a.id AS id, a.candidate.id AS candidateId, j.id AS jobId, c.id AS companyId, c.user.id AS companyUserId,
+               a.status AS status
+        FROM Application a
+        JOIN a.jobVacancy j
+        JOIN j.company c
+        WHERE a.id = :id AND a.deletedAt IS NULL
+    """)
+    Optional<ApplicationOwnership> findOwnershipById(@Param("id") Long id);
+
+    @Query("""
+        SELECT a.id AS id, a.candidate.id AS candidateId, j.id AS jobId, c.id AS companyId, c.user.id AS companyUserId,
+               a.status AS status,
+               COALESCE(GREATEST(a.updatedAt, u.updatedAt, j.updatedAt, c.updatedAt), a.createdAt) AS updatedAt
+        FROM Application a
+        JOIN a.candidate u
+        JOIN a.jobVacancy j
+        JOIN j.company c
+        WHERE a.id = :id AND a.deletedAt IS NULL
+    """)
+    Optional<ApplicationVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Moves a live application from {@code from} to {@code to}; zero rows means another request changed
+     * or withdrew it after {@code from} was read, so the caller's counter delta would be wrong.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Application a SET a.status = :to, a.decidedAt = :decidedAt, a.updatedAt = :now
+        WHERE a.id = :id AND a.status = :from AND a.deletedAt IS NULL
+    """)
+    int updateStatus(@Param("id") Long id, @Param("from") ApplicationStatus from, @Param("to") ApplicationStatus to,
+                     @Param("decidedAt") LocalDateTime decidedAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Withdraws a live application still in {@code status}, with the same zero-rows meaning as
+     * {@link #updateStatus}.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Application a SET a.deletedAt = :now, a.updatedAt = :now
+        WHERE a.id = :id AND a.status = :status AND a.deletedAt IS NULL
+    """)
+    int softDeleteByIdAndStatus(@Param("id") Long id, @Param("status") ApplicationStatus status,
+                                @Param("now") LocalDateTime now);
+
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE a.deletedAt IS NULL
+    """)
     List<Application> findAllNotDeleted();
 
     @Query("SELECT a FROM Application a WHERE a.candidate.id = :candidateId AND a.jobVacancy.id = :jobId AND a.deletedAt IS NULL")
@@ -27,24 +93,115 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             @Param("jobId") Long jobId
     );
 
-    @Query("SELECT a FROM Application a WHERE a.candidate.id = :candidateId AND a.deletedAt IS NULL")
+    /**
+     * Job ids among {@code jobIds} the candidate already applied to, including withdrawn applications,
+     * which still hold the (candidate_id, job_vacancy_id) unique constraint.
+     */
+    @Query("SELECT a.jobVacancy.id FROM Application a WHERE a.candidate.id = :candidateId AND a.jobVacancy.id IN :jobIds")
+    Set<Long> findAppliedJobIds(@Param("candidateId") Long candidateId, @Param("jobIds") Collection<Long> jobIds);
+
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE a.candidate.id = :candidateId AND a.deletedAt IS NULL
+    """)
     List<Application> findByCandidateIdAndNotDeleted(@Param("candidateId") Long candidateId);
 
-    @Query("SELECT a FROM Application a WHERE a.jobVacancy.id = :jobId AND a.deletedAt IS NULL")
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE j.id = :jobId AND a.deletedAt IS NULL
+    """)
     List<Application> findByJobIdAndNotDeleted(@Param("jobId") Long jobId);
 
-    @Query("SELECT a FROM Application a WHERE a.jobVacancy.company.id = :companyId AND a.deletedAt IS NULL")
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE j.company.id = :companyId AND a.deletedAt IS NULL
+    """)
     List<Application> findByCompanyIdAndNotDeleted(@Param("companyId") Long companyId);
 
+    /**
+     * One row per (job, status, day) for a company's live applications. Applications created before
+     * {@code since} fall into a single row per (job, status) with a null day. The day is bucketed in a
+     * derived table so the GROUP BY names a column: grouping on the CASE itself repeats the
+     * {@code :since} parameter, and databases do not treat two bind markers as the same expression.
+     */
     @Query("""
-        SELECT a FROM Application a 
-        WHERE a.jobVacancy.id = :jobId 
-        AND a.deletedAt IS NULL 
-        AND (:status IS NULL OR a.status = :status)
+        SELECT s.jobId AS jobId, s.jobTitle AS jobTitle, s.status AS status, s.createdOn AS day,
+               COUNT(*) AS applications,
+               COUNT(s.decidedAt) AS decided,
+               SUM(CASE WHEN s.decidedAt IS NOT NULL THEN (s.decidedAt - s.createdAt) BY SECOND END) AS decisionSeconds
+        FROM (
+            SELECT j.id AS jobId, j.title AS jobTitle, a.status AS status,
+                   CASE WHEN a.createdAt >= :since THEN CAST(a.createdAt AS LocalDate) END AS createdOn,
+                   a.createdAt AS createdAt, a.decidedAt AS decidedAt
+            FROM Application a
+            JOIN a.jobVacancy j
+            WHERE j.company.id = :companyId AND j.deletedAt IS NULL AND a.deletedAt IS NULL
+        ) s
+        GROUP BY s.jobId, s.jobTitle, s.status, s.createdOn
     """)
+    List<CompanyApplicationStats> aggregateByCompanyId(@Param("companyId") Long companyId,
+                                                       @Param("since") LocalDateTime since);
+
+    @Query(
+            value = """
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE j.id = :jobId
+        AND a.deletedAt IS NULL
+        AND (:status IS NULL OR a.status = :status)
+    """,
+            countQuery = """
+        SELECT COUNT(a) FROM Application a
+        WHERE a.jobVacancy.id = :jobId
+        AND a.deletedAt IS NULL
+        AND (:status IS NULL OR a.status = :status)
+    """
+    )
     Page<Application> findByJobIdAndStatusAndNotDeleted(
             @Param("jobId") Long jobId,
             @Param("status") ApplicationStatus status,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Query("""
+        SELECT a FROM Application a
+        JOIN FETCH a.candidate
+        JOIN FETCH a.jobVacancy j
+        JOIN FETCH j.company
+        WHERE j.id = :jobId
+        AND a.deletedAt IS NULL
+        AND (:status IS NULL OR a.status = :status)
+    """)
+    Slice<Application> findSliceByJobIdAndStatusAndNotDeleted(
+            @Param("jobId") Long jobId,
+            @Param("status") ApplicationStatus status,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT COUNT(*) FROM (
+            SELECT a.id AS id FROM Application a
+            WHERE a.jobVacancy.id = :jobId
+            AND a.deletedAt IS NULL
+            AND (:status IS NULL OR a.status = :status)
+            ORDER BY a.id
+            LIMIT :limit
+        ) t
+    """)
+    long countByJobIdAndStatusUpTo(
+            @Param("jobId") Long jobId,
+            @Param("status") ApplicationStatus status,
+            @Param("limit") int limit
+    );
+}
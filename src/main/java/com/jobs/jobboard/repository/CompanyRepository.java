@@ -2,10 +2,12 @@ package com.jobs.jobboard.repository;
 
 import com.jobs.jobboard.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +19,16 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     @Query("SELECT c FROM Company c WHERE c.user.id = :userId AND c.deletedAt IS NULL")
     Optional<Company> findByUserIdAndNotDeleted(@Param("userId") Long userId);
 
+    @Query("SELECT c.id FROM Company c WHERE c.user.id = :userId AND c.deletedAt IS NULL")
+    Optional<Long> findIdByUserIdAndNotDeleted(@Param("userId") Long userId);
+
+    @Query("SELECT c.user.id FROM Company c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Long> findOwnerUserIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Company c SET c.deletedAt = :now, c.updatedAt = :now WHERE c.id = :id AND c.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
     @Query("SELECT c FROM Company c WHERE c.deletedAt IS NULL")
     java.util.List<Company> findAllNotDeleted();
 }
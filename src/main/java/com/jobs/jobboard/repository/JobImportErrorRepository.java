@@ -0,0 +1,22 @@
+package com.jobs.jobboard.repository;
+
+import com.jobs.jobboard.entity.JobImportError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobImportErrorRepository extends JpaRepository<JobImportError, Long> {
+
+    @Query("""
+            SELECT e FROM JobImportError e
+            WHERE e.jobImport.id = :importId AND e.line > :afterLine
+            ORDER BY e.line
+            """)
+    List<JobImportError> findByImportIdAfter(@Param("importId") Long importId, @Param("afterLine") int afterLine,
+                                             Limit limit);
+}
@@ -0,0 +1,68 @@
+package com.jobs.jobboard.repository;
+
+import com.jobs.jobboard.entity.JobImport;
+import com.jobs.jobboard.entity.JobImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobImportRepository extends JpaRepository<JobImport, Long> {
+
+    @Query("SELECT i FROM JobImport i WHERE i.id = :id AND i.company.id = :companyId")
+    Optional<JobImport> findByIdAndCompanyId(@Param("id") Long id, @Param("companyId") Long companyId);
+
+    @Query("SELECT i.id FROM JobImport i WHERE i.status IN :statuses ORDER BY i.id")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<JobImportStatus> statuses);
+
+    @Query("""
+            SELECT i.spoolFile FROM JobImport i
+            WHERE i.status = com.jobs.jobboard.entity.JobImportStatus.FAILED AND i.finishedAt < :cutoff
+            """)
+    List<String> findSpoolFilesFailedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Moves an import to {@code to}; 0 when it is not in one of {@code from}, e.g. already taken by another runner.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobImport i SET i.status = :to, i.error = NULL, i.updatedAt = :now
+            WHERE i.id = :id AND i.status IN :from
+            """)
+    int transition(@Param("id") Long id, @Param("from") Collection<JobImportStatus> from,
+                   @Param("to") JobImportStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Records a committed chunk; 0 when the checkpoint moved since {@code fromRow}, in which case the
+     * chunk must be rolled back.
+     */
+    @Modifying
+    @Query("""
+            UPDATE JobImport i SET i.processedRows = :toRow,
+                i.importedRows = i.importedRows + :imported,
+                i.failedRows = i.failedRows + :failed,
+                i.updatedAt = :now
+            WHERE i.id = :id AND i.processedRows = :fromRow
+              AND i.status = com.jobs.jobboard.entity.JobImportStatus.RUNNING
+            """)
+    int advance(@Param("id") Long id, @Param("fromRow") int fromRow, @Param("toRow") int toRow,
+                @Param("imported") int imported, @Param("failed") int failed, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobImport i SET i.status = :status, i.error = :error, i.finishedAt = :now, i.updatedAt = :now
+            WHERE i.id = :id
+            """)
+    int finish(@Param("id") Long id, @Param("status") JobImportStatus status, @Param("error") String error,
+               @Param("now") LocalDateTime now);
+}
@@ -2,64 +2,230 @@ package com.jobs.jobboard.repository;
 
 import com.jobs.jobboard.entity.JobStatus;
 import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.repository.projection.JobApplicationCounts;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<JobVacancy, Long> {
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.id = :id AND j.deletedAt IS NULL")
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company WHERE j.id = :id AND j.deletedAt IS NULL")
     Optional<JobVacancy> findByIdAndNotDeleted(@Param("id") Long id);
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.deletedAt IS NULL")
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company WHERE j.deletedAt IS NULL")
     List<JobVacancy> findAllNotDeleted();
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.status = :status AND j.deletedAt IS NULL")
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c WHERE j.deletedAt IS NULL AND c.deletedAt IS NULL")
+    List<JobVacancy> findAllNotDeletedWithCompany();
+
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company WHERE j.id IN :ids")
+    List<JobVacancy> findAllByIdInWithCompany(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company WHERE j.deletedAt IS NULL AND (:status IS NULL OR j.status = :status)")
+    Stream<JobVacancy> streamNotDeleted(@Param("status") JobStatus status);
+
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company WHERE j.status = :status AND j.deletedAt IS NULL")
     List<JobVacancy> findByStatusAndNotDeleted(@Param("status") JobStatus status);
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.company.id = :companyId AND j.deletedAt IS NULL")
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c WHERE c.id = :companyId AND j.deletedAt IS NULL")
     List<JobVacancy> findByCompanyIdAndNotDeleted(@Param("companyId") Long companyId);
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.company.id = :companyId AND j.deletedAt IS NULL")
+    @Query(
+            value = "SELECT j FROM JobVacancy j JOIN FETCH j.company c WHERE c.id = :companyId AND j.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(j) FROM JobVacancy j WHERE j.company.id = :companyId AND j.deletedAt IS NULL"
+    )
     Page<JobVacancy> findByCompanyIdAndNotDeleted(@Param("companyId") Long companyId, Pageable pageable);
 
-    @Query("SELECT j FROM JobVacancy j WHERE j.company.user.id = :userId AND j.id = :jobId AND j.deletedAt IS NULL")
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c WHERE c.id = :companyId AND j.deletedAt IS NULL")
+    Slice<JobVacancy> findSliceByCompanyIdAndNotDeleted(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(*) FROM (
+                SELECT j.id AS id FROM JobVacancy j WHERE j.company.id = :companyId AND j.deletedAt IS NULL ORDER BY j.id LIMIT :limit
+            ) t
+            """)
+    long countByCompanyIdUpTo(@Param("companyId") Long companyId, @Param("limit") int limit);
+
+    @Query("""
+            SELECT j FROM JobVacancy j JOIN FETCH j.company c
+            WHERE c.id = :companyId
+              AND j.deletedAt IS NULL
+              AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))
+            ORDER BY j.createdAt DESC, j.id DESC
+            """)
+    List<JobVacancy> findByCompanyIdAfter(
+            @Param("companyId") Long companyId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c WHERE c.user.id = :userId AND j.id = :jobId AND j.deletedAt IS NULL")
     Optional<JobVacancy> findByIdAndCompanyUserIdAndNotDeleted(@Param("jobId") Long jobId, @Param("userId") Long userId);
 
-    @Query(
-            value = """
-            SELECT j
-            FROM JobVacancy j
-            WHERE j.deletedAt IS NULL
-              AND j.company.deletedAt IS NULL
-              AND (:status IS NULL OR j.status = :status)
-              AND (:companyId IS NULL OR j.company.id = :companyId)
-              AND (CAST(:companyName AS string) IS NULL OR LOWER(j.company.name) LIKE LOWER(CONCAT('%', CAST(:companyName AS string), '%')))
-              AND (CAST(:title AS string) IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', CAST(:title AS string), '%')))
-            """,
-            countQuery = """
-            SELECT COUNT(j)
+    @Query("SELECT j.company.user.id FROM JobVacancy j WHERE j.id = :id AND j.deletedAt IS NULL")
+    Optional<Long> findOwnerUserIdById(@Param("id") Long id);
+
+    @Query("""
+            SELECT j.applicationsTotal AS total, j.applicationsPending AS pending, j.applicationsReviewing AS reviewing,
+                   j.applicationsApproved AS approved, j.applicationsRejected AS rejected
             FROM JobVacancy j
+            WHERE j.id = :id
+            """)
+    Optional<JobApplicationCounts> findApplicationCountsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            UPDATE JobVacancy j SET j.deletedAt = :now, j.updatedAt = :now
+            WHERE j.id = :jobId
+              AND j.deletedAt IS NULL
+              AND j.company.id IN (SELECT c.id FROM Company c WHERE c.user.id = :userId)
+            """)
+    int softDeleteByIdAndCompanyUserId(@Param("jobId") Long jobId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Text filters take {@link com.jobs.jobboard.search.JobSearchSql#contains} patterns: a case-insensitive
+     * substring match with literal wildcards, the same meaning as the search indexes.
+     */
+    String SEARCH_FILTER = """
             WHERE j.deletedAt IS NULL
-              AND j.company.deletedAt IS NULL
+              AND c.deletedAt IS NULL
               AND (:status IS NULL OR j.status = :status)
-              AND (:companyId IS NULL OR j.company.id = :companyId)
-              AND (CAST(:companyName AS string) IS NULL OR LOWER(j.company.name) LIKE LOWER(CONCAT('%', CAST(:companyName AS string), '%')))
-              AND (CAST(:title AS string) IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', CAST(:title AS string), '%')))
-            """
+              AND (:companyId IS NULL OR c.id = :companyId)
+              AND (CAST(:companyName AS string) IS NULL OR LOWER(c.name) LIKE CAST(:companyName AS string) ESCAPE '\\')
+              AND (CAST(:title AS string) IS NULL OR LOWER(j.title) LIKE CAST(:title AS string) ESCAPE '\\')
+              AND (CAST(:keyword AS string) IS NULL
+                   OR LOWER(j.title) LIKE CAST(:keyword AS string) ESCAPE '\\'
+                   OR LOWER(j.description) LIKE CAST(:keyword AS string) ESCAPE '\\'
+                   OR LOWER(j.location) LIKE CAST(:keyword AS string) ESCAPE '\\'
+                   OR LOWER(c.name) LIKE CAST(:keyword AS string) ESCAPE '\\')
+            """;
+
+    @Query(
+            value = "SELECT j FROM JobVacancy j JOIN FETCH j.company c " + SEARCH_FILTER,
+            countQuery = "SELECT COUNT(j) FROM JobVacancy j JOIN j.company c " + SEARCH_FILTER
     )
     Page<JobVacancy> searchJobs(
+            @Param("keyword") String keyword,
             @Param("title") String title,
             @Param("companyId") Long companyId,
             @Param("companyName") String companyName,
             @Param("status") JobStatus status,
             Pageable pageable
-    );}
+    );
+
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c " + SEARCH_FILTER)
+    Slice<JobVacancy> searchJobsSlice(
+            @Param("keyword") String keyword,
+            @Param("title") String title,
+            @Param("companyId") Long companyId,
+            @Param("companyName") String companyName,
+            @Param("status") JobStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * Counts matching jobs but stops at {@code limit}, so the cost is bounded however broad the filter.
+     * HQL requires an order for a limited subquery; the primary key is the cheapest one.
+     */
+    @Query("SELECT COUNT(*) FROM (SELECT j.id AS id FROM JobVacancy j JOIN j.company c " + SEARCH_FILTER + " ORDER BY j.id LIMIT :limit) t")
+    long countSearchJobsUpTo(
+            @Param("keyword") String keyword,
+            @Param("title") String title,
+            @Param("companyId") Long companyId,
+            @Param("companyName") String companyName,
+            @Param("status") JobStatus status,
+            @Param("limit") int limit
+    );
+
+    @Query("SELECT j FROM JobVacancy j JOIN FETCH j.company c " + SEARCH_FILTER + """
+              AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))
+            ORDER BY j.createdAt DESC, j.id DESC
+            """)
+    List<JobVacancy> searchJobsAfter(
+            @Param("keyword") String keyword,
+            @Param("title") String title,
+            @Param("companyId") Long companyId,
+            @Param("companyName") String companyName,
+            @Param("status") JobStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE JobVacancy j SET
+                j.applicationsTotal = j.applicationsTotal + :total,
+                j.applicationsPending = j.applicationsPending + :pending,
+                j.applicationsReviewing = j.applicationsReviewing + :reviewing,
+                j.applicationsApproved = j.applicationsApproved + :approved,
+                j.applicationsRejected = j.applicationsRejected + :rejected
+            WHERE j.id = :jobId
+            """)
+    int adjustApplicationCounts(@Param("jobId") Long jobId, @Param("total") int total, @Param("pending") int pending,
+                                @Param("reviewing") int reviewing, @Param("approved") int approved,
+                                @Param("rejected") int rejected);
 
+    /**
+     * Recomputes the application counters from one grouped pass over the live applications, touching
+     * only job rows that drifted. MERGE rather than UPDATE ... FROM so the same statement runs on H2 and
+     * Postgres (15+).
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO job_vacancies j
+            USING (
+                SELECT v.id                      AS job_id,
+                       COALESCE(c.total, 0)      AS total,
+                       COALESCE(c.pending, 0)    AS pending,
+                       COALESCE(c.reviewing, 0)  AS reviewing,
+                       COALESCE(c.approved, 0)   AS approved,
+                       COALESCE(c.rejected, 0)   AS rejected
+                FROM job_vacancies v
+                LEFT JOIN (
+                    SELECT job_vacancy_id,
+                           COUNT(*)                                      AS total,
+                           COUNT(*) FILTER (WHERE status = 'PENDING')    AS pending,
+                           COUNT(*) FILTER (WHERE status = 'REVIEWING')  AS reviewing,
+                           COUNT(*) FILTER (WHERE status = 'APPROVED')   AS approved,
+                           COUNT(*) FILTER (WHERE status = 'REJECTED')   AS rejected
+                    FROM applications
+                    WHERE deleted_at IS NULL
+                    GROUP BY job_vacancy_id
+                ) c ON c.job_vacancy_id = v.id
+            ) counted
+            ON j.id = counted.job_id
+            WHEN MATCHED AND (j.applications_total <> counted.total
+                    OR j.applications_pending <> counted.pending
+                    OR j.applications_reviewing <> counted.reviewing
+                    OR j.applications_approved <> counted.approved
+                    OR j.applications_rejected <> counted.rejected) THEN UPDATE SET
+                applications_total     = counted.total,
+                applications_pending   = counted.pending,
+                applications_reviewing = counted.reviewing,
+                applications_approved  = counted.approved,
+                applications_rejected  = counted.rejected
+            """)
+    int reconcileApplicationCounts();
+}
@@ -0,0 +1,58 @@
+package com.jobs.jobboard.repository;
+
+import com.jobs.jobboard.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("SELECT t.family FROM RefreshToken t WHERE t.accessJti = :jti")
+    Optional<String> findFamilyByAccessJti(@Param("jti") String jti);
+
+    /**
+     * Marks one token used; 0 when it was already revoked, e.g. by a concurrent refresh with the same token.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.id = :id AND t.revokedAt IS NULL")
+    int revoke(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.family = :family AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("family") String family, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.user.id = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Sessions whose access token is still live and not revoked yet.
+     */
+    @Query("""
+            SELECT t FROM RefreshToken t
+            WHERE t.family = :family AND t.accessExpiresAt > :now
+            AND NOT EXISTS (SELECT 1 FROM RevokedToken r WHERE r.jti = t.accessJti)
+            """)
+    List<RefreshToken> findWithLiveAccessByFamily(@Param("family") String family, @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT t FROM RefreshToken t
+            WHERE t.user.id = :userId AND t.accessExpiresAt > :now
+            AND NOT EXISTS (SELECT 1 FROM RevokedToken r WHERE r.jti = t.accessJti)
+            """)
+    List<RefreshToken> findWithLiveAccessByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
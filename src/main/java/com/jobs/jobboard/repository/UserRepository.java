@@ -2,9 +2,11 @@ package com.jobs.jobboard.repository;
 
 import com.jobs.jobboard.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +23,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
     Optional<User> findByIdAndNotDeleted(@Param("id") Long id);
 
+    /**
+     * Replaces a password hash with an equivalent one in the current encoding; a no-op if the password
+     * changed in the meantime.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int rehashPassword(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Query("SELECT u.authzEpoch FROM User u WHERE u.id = :id")
+    Optional<Long> findAuthzEpochById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.authzEpoch = u.authzEpoch + 1 WHERE u.id = :id")
+    int incrementAuthzEpoch(@Param("id") Long id);
+
     @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
     List<User> findAllNotDeleted();
 }
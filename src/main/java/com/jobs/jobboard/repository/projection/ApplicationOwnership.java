@@ -0,0 +1,18 @@
+package com.jobs.jobboard.repository.projection;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+
+public interface ApplicationOwnership {
+
+    Long getId();
+
+    Long getCandidateId();
+
+    Long getJobId();
+
+    Long getCompanyId();
+
+    Long getCompanyUserId();
+
+    ApplicationStatus getStatus();
+}
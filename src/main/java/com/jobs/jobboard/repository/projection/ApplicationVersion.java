@@ -0,0 +1,4 @@
+package com.jobs.jobboard.repository.projection;
+
+public interface ApplicationVersion extends ApplicationOwnership, ResourceVersion {
+}
@@ -0,0 +1,22 @@
+package com.jobs.jobboard.repository.projection;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+
+public interface CompanyApplicationStats {
+
+    Long getJobId();
+
+    String getJobTitle();
+
+    ApplicationStatus getStatus();
+
+    LocalDate getDay();
+
+    long getApplications();
+
+    long getDecided();
+
+    Long getDecisionSeconds();
+}
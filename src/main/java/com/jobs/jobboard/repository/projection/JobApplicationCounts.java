@@ -0,0 +1,30 @@
+package com.jobs.jobboard.repository.projection;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+
+/**
+ * The per-job application counters maintained by {@code ApplicationCounterService}.
+ */
+public interface JobApplicationCounts {
+
+    int getTotal();
+
+    int getPending();
+
+    int getReviewing();
+
+    int getApproved();
+
+    int getRejected();
+
+    default int count(ApplicationStatus status) {
+        if (status == null) return getTotal();
+
+        return switch (status) {
+            case PENDING -> getPending();
+            case REVIEWING -> getReviewing();
+            case APPROVED -> getApproved();
+            case REJECTED -> getRejected();
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobs.jobboard.repository.projection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Id plus the newest {@code updatedAt} among the rows a response is built from, enough to answer
+ * conditional GETs without loading the entity.
+ */
+public interface ResourceVersion {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    default String eTag(String resource) {
+        return "\"" + resource + "-" + getId() + "-" + lastModified() + "\"";
+    }
+
+    default long lastModified() {
+        return getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * The version of a response already in hand: the newest of {@code updatedAts}, or
+     * {@code createdAt} when none is set, the same value the version queries compute.
+     */
+    static ResourceVersion of(Long id, LocalDateTime createdAt, LocalDateTime... updatedAts) {
+        LocalDateTime updatedAt = Arrays.stream(updatedAts)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(createdAt);
+
+        return new ResourceVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,372 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.config.ReplicaRoutingDataSource;
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "jobboard.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryJobSearchIndex implements JobSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryJobSearchIndex.class);
+
+    private static final Set<String> SORTABLE = Set.of("createdAt", "updatedAt", "id", "title", RELEVANCE);
+
+    enum Field {
+        TITLE(3.0),
+        COMPANY(2.0),
+        LOCATION(1.5),
+        DESCRIPTION(1.0);
+
+        final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record IndexedJob(
+            Long id,
+            Long companyId,
+            JobStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            String sortTitle,
+            EnumMap<Field, String> text,
+            EnumMap<Field, Set<String>> terms
+    ) {}
+
+    private record ScoredJob(IndexedJob job, double score) {}
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate primaryRead;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+
+    private volatile boolean ready;
+    private List<Consumer<IndexData>> changesDuringRebuild;
+
+    @Autowired
+    public InMemoryJobSearchIndex(JobRepository jobRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${jobboard.search.index.enabled:true}") boolean enabled) {
+        this.jobRepository = jobRepository;
+        this.primaryRead = ReplicaRoutingDataSource.primaryReadOnly(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        IndexData fresh = new IndexData();
+        primaryRead.executeWithoutResult(status ->
+                jobRepository.findAllNotDeletedWithCompany().forEach(job -> fresh.apply(snapshot(job))));
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.accept(fresh));
+            changesDuringRebuild = null;
+            data = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Job search index built with {} documents in {} ms",
+                fresh.documents.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void index(JobVacancy job) {
+        if (!enabled) return;
+        IndexedJob document = snapshot(job);
+        AfterCommit.run(() -> write(index -> index.apply(document)));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        if (!enabled) return;
+        AfterCommit.run(() -> write(index -> index.unapply(jobId)));
+    }
+
+    @Override
+    public void removeCompany(Long companyId) {
+        if (!enabled) return;
+        AfterCommit.run(() -> write(index -> {
+            for (Long jobId : List.copyOf(index.jobsByCompany.getOrDefault(companyId, Set.of()))) {
+                index.unapply(jobId);
+            }
+        }));
+    }
+
+    @Override
+    public void renameCompany(Long companyId, String name) {
+        if (!enabled) return;
+        String companyText = SearchText.lower(name);
+        Set<String> companyTerms = SearchText.terms(name);
+        AfterCommit.run(() -> write(index -> {
+            for (Long jobId : List.copyOf(index.jobsByCompany.getOrDefault(companyId, Set.of()))) {
+                IndexedJob current = index.documents.get(jobId);
+                EnumMap<Field, String> text = new EnumMap<>(current.text());
+                text.put(Field.COMPANY, companyText);
+                EnumMap<Field, Set<String>> terms = new EnumMap<>(current.terms());
+                terms.put(Field.COMPANY, companyTerms);
+                index.apply(new IndexedJob(current.id(), current.companyId(), current.status(),
+                        current.createdAt(), current.updatedAt(), current.sortTitle(), text, terms));
+            }
+        }));
+    }
+
+    @Override
+    public Optional<JobSearchResult> search(JobSearchQuery query, Pageable pageable, CountMode countMode) {
+        if (!ready || !isSupported(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexData current = data;
+            Map<Long, Double> scores = null;
+            scores = current.match(scores, query.title(), EnumSet.of(Field.TITLE));
+            scores = current.match(scores, query.companyName(), EnumSet.of(Field.COMPANY));
+            scores = current.match(scores, query.keyword(), EnumSet.allOf(Field.class));
+
+            Collection<Long> candidates;
+            if (scores != null) {
+                candidates = scores.keySet();
+            } else if (query.companyId() != null) {
+                candidates = current.jobsByCompany.getOrDefault(query.companyId(), Set.of());
+            } else {
+                candidates = current.documents.keySet();
+            }
+
+            // Only the hits up to the end of the requested page are kept, in a heap whose head is the worst
+            Comparator<ScoredJob> order = comparator(pageable.getSort());
+            long wanted = pageable.getOffset() + pageable.getPageSize();
+            PriorityQueue<ScoredJob> top = new PriorityQueue<>(order.reversed());
+            long total = 0;
+            for (Long id : candidates) {
+                IndexedJob job = current.documents.get(id);
+                if (query.status() != null && job.status() != query.status()) continue;
+                if (query.companyId() != null && !query.companyId().equals(job.companyId())) continue;
+
+                total++;
+                ScoredJob hit = new ScoredJob(job, scores == null ? 0.0 : scores.get(id));
+                if (top.size() < wanted) {
+                    top.add(hit);
+                } else if (order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<ScoredJob> hits = new ArrayList<>(top);
+            hits.sort(order);
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            List<Long> ids = hits.subList(from, hits.size()).stream().map(hit -> hit.job().id()).toList();
+
+            return Optional.of(new JobSearchResult(ids, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isSupported(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) return false;
+        }
+        return true;
+    }
+
+    private Comparator<ScoredJob> comparator(Sort sort) {
+        Comparator<ScoredJob> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ScoredJob> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(hit -> hit.job().createdAt(), Comparator.nullsLast(Comparator.naturalOrder()));
+                case "updatedAt" -> Comparator.comparing(hit -> hit.job().updatedAt(), Comparator.nullsLast(Comparator.naturalOrder()));
+                case "title" -> Comparator.comparing(hit -> hit.job().sortTitle());
+                case "id" -> Comparator.comparing(hit -> hit.job().id());
+                default -> Comparator.comparingDouble(ScoredJob::score).reversed();
+            };
+            if (order.isDescending() && !RELEVANCE.equals(order.getProperty())) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<ScoredJob> newestFirst = Comparator.comparing((ScoredJob hit) -> hit.job().id()).reversed();
+        return comparator == null ? newestFirst : comparator.thenComparing(newestFirst);
+    }
+
+    private void write(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static IndexedJob snapshot(JobVacancy job) {
+        Company company = job.getCompany();
+
+        EnumMap<Field, String> text = new EnumMap<>(Field.class);
+        text.put(Field.TITLE, SearchText.lower(job.getTitle()));
+        text.put(Field.DESCRIPTION, SearchText.lower(job.getDescription()));
+        text.put(Field.LOCATION, SearchText.lower(job.getLocation()));
+        text.put(Field.COMPANY, SearchText.lower(company.getName()));
+
+        EnumMap<Field, Set<String>> terms = new EnumMap<>(Field.class);
+        terms.put(Field.TITLE, SearchText.terms(job.getTitle()));
+        terms.put(Field.DESCRIPTION, SearchText.terms(job.getDescription()));
+        terms.put(Field.LOCATION, SearchText.terms(job.getLocation()));
+        terms.put(Field.COMPANY, SearchText.terms(company.getName()));
+
+        return new IndexedJob(
+                job.getId(),
+                company.getId(),
+                job.getStatus(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                SearchText.fold(job.getTitle()),
+                text,
+                terms
+        );
+    }
+
+    private static final class IndexData {
+
+        private final Map<Long, IndexedJob> documents = new HashMap<>();
+        private final Map<Long, Set<Long>> jobsByCompany = new HashMap<>();
+        private final EnumMap<Field, NavigableMap<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+
+        IndexData() {
+            for (Field field : Field.values()) {
+                postings.put(field, new TreeMap<>());
+            }
+        }
+
+        /**
+         * Narrows {@code scores} (null when no filter ran yet) to jobs whose {@code fields} contain
+         * {@code text} as a case-insensitive substring, the meaning the JPQL search gives the same filter.
+         * Each match adds the weight of its best field, doubled when the text is a whole word of it.
+         */
+        Map<Long, Double> match(Map<Long, Double> scores, String text, Set<Field> fields) {
+            if (text == null) return scores;
+
+            String phrase = SearchText.lower(text);
+            List<String> tokens = SearchText.tokens(text);
+            String word = tokens.size() == 1 ? tokens.get(0) : null;
+
+            Map<Long, Double> hits = new HashMap<>();
+            for (Field field : fields) {
+                for (Long id : candidates(field, tokens, scores)) {
+                    IndexedJob job = documents.get(id);
+                    if (!job.text().get(field).contains(phrase)) continue;
+
+                    double weight = word != null && job.terms().get(field).contains(word) ? field.weight * 2 : field.weight;
+                    hits.merge(id, weight, Math::max);
+                }
+            }
+
+            if (scores == null) return hits;
+
+            Map<Long, Double> both = new HashMap<>();
+            for (Map.Entry<Long, Double> entry : hits.entrySet()) {
+                both.put(entry.getKey(), scores.get(entry.getKey()) + entry.getValue());
+            }
+            return both;
+        }
+
+        /**
+         * Jobs that may contain a text made of {@code tokens}, checked against the field text by the
+         * caller. A middle token is a whole word of the field and a last one starts a word, both served
+         * from the sorted postings; a lone token can sit anywhere inside a word, so the field's
+         * vocabulary is scanned for it.
+         */
+        private Collection<Long> candidates(Field field, List<String> tokens, Map<Long, Double> scores) {
+            if (scores != null) return scores.keySet();
+            if (tokens.isEmpty()) return documents.keySet();
+
+            NavigableMap<String, Set<Long>> fieldPostings = postings.get(field);
+            if (tokens.size() > 2) return fieldPostings.getOrDefault(tokens.get(1), Set.of());
+
+            Set<Long> ids = new HashSet<>();
+            if (tokens.size() == 2) {
+                String last = tokens.get(1);
+                fieldPostings.subMap(last, true, last + Character.MAX_VALUE, true).values().forEach(ids::addAll);
+            } else {
+                String token = tokens.get(0);
+                fieldPostings.forEach((term, termIds) -> {
+                    if (term.contains(token)) ids.addAll(termIds);
+                });
+            }
+            return ids;
+        }
+
+        void apply(IndexedJob document) {
+            unapply(document.id());
+
+            documents.put(document.id(), document);
+            jobsByCompany.computeIfAbsent(document.companyId(), key -> new HashSet<>()).add(document.id());
+            document.terms().forEach((field, terms) -> {
+                NavigableMap<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String term : terms) {
+                    fieldPostings.computeIfAbsent(term, key -> new HashSet<>()).add(document.id());
+                }
+            });
+        }
+
+        void unapply(Long jobId) {
+            IndexedJob existing = documents.remove(jobId);
+            if (existing == null) return;
+
+            Set<Long> companyJobs = jobsByCompany.get(existing.companyId());
+            if (companyJobs != null) {
+                companyJobs.remove(jobId);
+                if (companyJobs.isEmpty()) jobsByCompany.remove(existing.companyId());
+            }
+
+            existing.terms().forEach((field, terms) -> {
+                NavigableMap<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String term : terms) {
+                    Set<Long> ids = fieldPostings.get(term);
+                    if (ids == null) continue;
+                    ids.remove(jobId);
+                    if (ids.isEmpty()) fieldPostings.remove(term);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.entity.JobVacancy;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+/**
+ * Search engine answering job searches with ranked ids; rows are hydrated by the caller.
+ */
+public interface JobSearchIndex {
+
+    /**
+     * Sort property ranking the best matches first. Its direction is ignored, since a plain
+     * {@code sort=relevance} parses as ascending.
+     */
+    String RELEVANCE = "relevance";
+
+    void index(JobVacancy job);
+
+    void remove(Long jobId);
+
+    void removeCompany(Long companyId);
+
+    void renameCompany(Long companyId, String name);
+
+    /**
+     * Text filters match a field containing the whole filter value, ignoring case, with {@code %} and
+     * {@code _} taken literally; the keyword matches when any field does. The database fallback gives
+     * them the same meaning, so switching engines never changes which jobs match.
+     *
+     * <p>Returns empty when the engine cannot answer the query (not ready, disabled or unsupported sort),
+     * in which case the caller falls back to the database. Engines that know the total for free may
+     * ignore {@code countMode} and report an exact count.
+     */
+    Optional<JobSearchResult> search(JobSearchQuery query, Pageable pageable, CountMode countMode);
+}
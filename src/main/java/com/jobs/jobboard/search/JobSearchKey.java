@@ -0,0 +1,42 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+/**
+ * Cache key for one search page. Text filters are lower-cased because both search engines match
+ * case-insensitively, so "Java" and "java " share an entry. Relevance always ranks best match first,
+ * so its direction is dropped from the key; any other order keeps its direction, and
+ * {@code ?sort=createdAt} (ascending, Spring's default) and {@code ?sort=createdAt,desc} are
+ * different pages with different entries.
+ */
+public record JobSearchKey(JobSearchQuery query, int page, int size, Sort sort, CountMode countMode) {
+
+    public static JobSearchKey of(JobSearchQuery query, Pageable pageable, CountMode countMode) {
+        JobSearchQuery normalized = new JobSearchQuery(
+                lower(query.keyword()),
+                lower(query.title()),
+                query.companyId(),
+                lower(query.companyName()),
+                query.status()
+        );
+
+        return new JobSearchKey(normalized, pageable.getPageNumber(), pageable.getPageSize(),
+                normalize(pageable.getSort()), countMode);
+    }
+
+    private static Sort normalize(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> JobSearchIndex.RELEVANCE.equals(order.getProperty())
+                        ? Sort.Order.desc(JobSearchIndex.RELEVANCE)
+                        : order)
+                .toList());
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.entity.JobStatus;
+
+public record JobSearchQuery(
+        String keyword,
+        String title,
+        Long companyId,
+        String companyName,
+        JobStatus status
+) {
+}
@@ -0,0 +1,12 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+
+import java.util.List;
+
+public record JobSearchResult(List<Long> ids, long total, CountMode countMode) {
+
+    public JobSearchResult(List<Long> ids, long total) {
+        this(ids, total, CountMode.EXACT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobs.jobboard.search;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.Locale;
+
+/**
+ * Native {@code FROM ... WHERE} clause for a job search, with only the filters that are set, so the
+ * Postgres planner sees each predicate (and can pick its trigram index) instead of {@code :x IS NULL OR ...}.
+ */
+public final class JobSearchSql {
+
+    private static final String KEYWORD_MATCH = """
+             AND j.id IN (
+                SELECT id FROM job_vacancies WHERE lower(title) LIKE :keyword
+                UNION SELECT id FROM job_vacancies WHERE lower(description) LIKE :keyword
+                UNION SELECT id FROM job_vacancies WHERE lower(location) LIKE :keyword
+                UNION SELECT jv.id FROM job_vacancies jv JOIN companies co ON co.id = jv.company_id
+                      WHERE lower(co.name) LIKE :keyword)""";
+
+    private JobSearchSql() {}
+
+    /**
+     * Appends the filter values to {@code params}; the tables are aliased {@code j} and {@code c}.
+     */
+    public static String fromWhere(JobSearchQuery query, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder("""
+                 FROM job_vacancies j
+                 JOIN companies c ON c.id = j.company_id
+                WHERE j.deleted_at IS NULL
+                  AND c.deleted_at IS NULL""");
+
+        if (query.status() != null) {
+            sql.append(" AND j.status = :status");
+            params.addValue("status", query.status().name());
+        }
+        if (query.companyId() != null) {
+            sql.append(" AND j.company_id = :companyId");
+            params.addValue("companyId", query.companyId());
+        }
+        if (query.companyName() != null) {
+            sql.append(" AND lower(c.name) LIKE :companyName");
+            params.addValue("companyName", contains(query.companyName()));
+        }
+        if (query.title() != null) {
+            sql.append(" AND lower(j.title) LIKE :title");
+            params.addValue("title", contains(query.title()));
+        }
+        if (query.keyword() != null) {
+            sql.append(KEYWORD_MATCH);
+            params.addValue("keyword", contains(query.keyword()));
+        }
+
+        return sql.toString();
+    }
+
+    /**
+     * A {@code LIKE} pattern matching lower-cased text that contains {@code value}, with its wildcards
+     * escaped by backslashes.
+     */
+    public static String contains(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
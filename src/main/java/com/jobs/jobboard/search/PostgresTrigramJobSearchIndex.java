@@ -0,0 +1,213 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.service.PageCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers job searches straight from Postgres, using {@code pg_trgm} GIN indexes on the lower-cased
+ * text columns so {@code LIKE '%term%'} stays an index scan as the table grows. There is nothing to keep
+ * in sync, so every instance (and every read replica) sees the same results.
+ *
+ * <p>The indexes are built by hand from {@code db/postgres/018-job-search-trigram.sql}, not on startup:
+ * a concurrent build on a large table takes minutes and must not hold up the application. The engine is
+ * ready only while every index exists and is valid, checked on startup and then on a fixed delay, so a
+ * build finishing later is picked up and a dropped or failed index sends searches back to JPQL instead
+ * of scanning. On any other database it never becomes ready and the caller keeps using the portable
+ * JPQL search.
+ */
+@Component
+@ConditionalOnProperty(name = "jobboard.search.engine", havingValue = "postgres")
+public class PostgresTrigramJobSearchIndex implements JobSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresTrigramJobSearchIndex.class);
+
+    private static final String INDEX_SCRIPT = "db/postgres/018-job-search-trigram.sql";
+
+    private static final List<String> INDEXES = List.of(
+            "idx_job_vacancies_title_trgm",
+            "idx_job_vacancies_description_trgm",
+            "idx_job_vacancies_location_trgm",
+            "idx_companies_name_trgm"
+    );
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "j.created_at",
+            "updatedAt", "j.updated_at",
+            "id", "j.id",
+            "title", "lower(j.title)"
+    );
+
+    // Same field weights as the in-memory index
+    private static final String RELEVANCE_SCORE = """
+            (3 * word_similarity(:term, lower(j.title))
+             + 2 * word_similarity(:term, lower(c.name))
+             + 1.5 * word_similarity(:term, lower(j.location))
+             + word_similarity(:term, lower(coalesce(j.description, ''))))""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PageCounter pageCounter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile boolean postgres;
+    private volatile boolean ready;
+
+    @Autowired
+    public PostgresTrigramJobSearchIndex(NamedParameterJdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         PageCounter pageCounter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pageCounter = pageCounter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        String product = jdbcTemplate.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        if (!"PostgreSQL".equals(product)) {
+            log.info("Trigram job search needs PostgreSQL, found {}; searching with JPQL instead", product);
+            return;
+        }
+
+        postgres = true;
+        checkIndexes();
+        if (!ready) {
+            log.warn("Trigram search indexes are missing or invalid; searching with JPQL until {} has been run",
+                    INDEX_SCRIPT);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobboard.search.postgres.index-check-interval:PT1M}")
+    public void checkIndexes() {
+        if (!postgres) return;
+
+        List<String> valid;
+        try {
+            valid = jdbcTemplate.queryForList("""
+                    SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+                     WHERE i.indisvalid AND i.indisready AND c.relnamespace = current_schema()::regnamespace
+                       AND c.relname IN (:indexes)""", Map.of("indexes", INDEXES), String.class);
+        } catch (DataAccessException e) {
+            log.warn("Could not check trigram search indexes ({}); searching with JPQL", e.getMessage());
+            ready = false;
+            return;
+        }
+
+        boolean complete = valid.containsAll(INDEXES);
+        if (complete != ready) {
+            if (complete) {
+                log.info("Trigram search indexes are valid; searching with pg_trgm");
+            } else {
+                List<String> missing = INDEXES.stream().filter(index -> !valid.contains(index)).toList();
+                log.warn("Trigram search indexes {} are missing or invalid; searching with JPQL until {} "
+                        + "has been run", missing, INDEX_SCRIPT);
+            }
+            ready = complete;
+        }
+    }
+
+    @Override
+    public void index(JobVacancy job) {
+    }
+
+    @Override
+    public void remove(Long jobId) {
+    }
+
+    @Override
+    public void removeCompany(Long companyId) {
+    }
+
+    @Override
+    public void renameCompany(Long companyId, String name) {
+    }
+
+    @Override
+    public Optional<JobSearchResult> search(JobSearchQuery query, Pageable pageable, CountMode countMode) {
+        if (!ready) return Optional.empty();
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String fromWhere = JobSearchSql.fromWhere(query, params);
+
+        String term = firstNonNull(query.keyword(), query.title(), query.companyName());
+        String orderBy = orderBy(pageable.getSort(), term != null);
+        if (orderBy == null) return Optional.empty();
+        if (term != null) params.addValue("term", term.toLowerCase());
+
+        params.addValue("limit", pageable.getPageSize() + 1);
+        params.addValue("offset", pageable.getOffset());
+
+        CountedPage<Long> page = readOnlyTransaction.execute(status -> {
+            List<Long> rows = jdbcTemplate.queryForList(
+                    "SELECT j.id" + fromWhere + orderBy + " LIMIT :limit OFFSET :offset", params, Long.class);
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            Slice<Long> ids = new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+
+            return pageCounter.count(countMode, ids,
+                    limit -> countUpTo(fromWhere, params, limit),
+                    () -> pageCounter.plannerEstimate("SELECT 1" + fromWhere, params));
+        });
+
+        return Optional.of(new JobSearchResult(page.getContent(), page.getTotalElements(), page.getCountMode()));
+    }
+
+    private long countUpTo(String fromWhere, MapSqlParameterSource params, int limit) {
+        if (limit == Integer.MAX_VALUE) {
+            return jdbcTemplate.queryForObject("SELECT count(*)" + fromWhere, params, Long.class);
+        }
+
+        MapSqlParameterSource capped = new MapSqlParameterSource(params.getValues()).addValue("cap", limit);
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM (SELECT 1" + fromWhere + " LIMIT :cap) t", capped, Long.class);
+    }
+
+    private static String orderBy(Sort sort, boolean hasTerm) {
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            String column = RELEVANCE.equals(order.getProperty())
+                    ? (hasTerm ? RELEVANCE_SCORE : null)
+                    : SORT_COLUMNS.get(order.getProperty());
+
+            if (column == null) {
+                if (RELEVANCE.equals(order.getProperty())) continue;
+                return null;
+            }
+            boolean descending = order.isDescending() || RELEVANCE.equals(order.getProperty());
+            orderBy.append(column).append(descending ? " DESC" : " ASC").append(", ");
+        }
+        return orderBy.append("j.id DESC").toString();
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null) return value;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobs.jobboard.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SearchText {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchText() {}
+
+    public static String fold(String value) {
+        if (value == null) return "";
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Lower-cases like the database's {@code LOWER()}, keeping accents: the form search filters compare.
+     */
+    public static String lower(String value) {
+        if (value == null) return "";
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> terms(String value) {
+        return new LinkedHashSet<>(tokens(value));
+    }
+
+    /**
+     * The folded words of {@code value} in order, repeats included.
+     */
+    public static List<String> tokens(String value) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(value))) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.entity.ApplicationStatus;
+import com.jobs.jobboard.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the per-job application counters on {@code job_vacancies} in step with the applications table.
+ * Every change is a relative UPDATE on the job row, so concurrent applications never read-modify-write.
+ * Callers adjust only after their own conditional write to the application succeeded, so the status a
+ * delta is computed from is the one the row actually left, even when two requests race.
+ */
+@Service
+public class ApplicationCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationCounterService.class);
+
+    private final JobRepository jobRepository;
+
+    @Autowired
+    public ApplicationCounterService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public void applicationsCreated(Long jobId, int count) {
+        adjust(jobId, count, null, ApplicationStatus.PENDING, count);
+    }
+
+    public void statusChanged(Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        if (from != to) adjust(jobId, 0, from, to, 1);
+    }
+
+    public void applicationDeleted(Long jobId, ApplicationStatus status) {
+        adjust(jobId, -1, status, null, 1);
+    }
+
+    /**
+     * Repairs counters changed outside the application, such as manual data fixes or restored backups.
+     * Only rows whose stored counts differ are rewritten, so a run that finds nothing writes nothing.
+     */
+    @Scheduled(cron = "${jobboard.counters.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public int reconcile() {
+        int repaired = jobRepository.reconcileApplicationCounts();
+        if (repaired > 0) {
+            log.warn("Application counters repaired for {} job(s)", repaired);
+        }
+        return repaired;
+    }
+
+    private void adjust(Long jobId, int total, ApplicationStatus removed, ApplicationStatus added, int count) {
+        jobRepository.adjustApplicationCounts(
+                jobId,
+                total,
+                delta(ApplicationStatus.PENDING, removed, added, count),
+                delta(ApplicationStatus.REVIEWING, removed, added, count),
+                delta(ApplicationStatus.APPROVED, removed, added, count),
+                delta(ApplicationStatus.REJECTED, removed, added, count)
+        );
+    }
+
+    private static int delta(ApplicationStatus status, ApplicationStatus removed, ApplicationStatus added, int count) {
+        return ((status == added ? 1 : 0) - (status == removed ? 1 : 0)) * count;
+    }
+}
@@ -1,43 +1,72 @@
 package com.jobs.jobboard.service;
 
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.request.CreateApplicationRequest;
 import com.jobs.jobboard.dto.response.ApplicationResponse;
+import com.jobs.jobboard.dto.response.BatchApplicationItemResponse;
+import com.jobs.jobboard.dto.response.BatchApplicationResponse;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
 import com.jobs.jobboard.dto.response.CompanySummaryResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
 import com.jobs.jobboard.dto.response.JobSummaryResponse;
 import com.jobs.jobboard.dto.response.UserResponse;
 import com.jobs.jobboard.entity.*;
 import com.jobs.jobboard.exception.BusinessException;
 import com.jobs.jobboard.repository.ApplicationRepository;
 import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.projection.ApplicationOwnership;
+import com.jobs.jobboard.repository.projection.ApplicationVersion;
+import com.jobs.jobboard.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationService {
 
+    private static final int BATCH_ATTEMPTS = 3;
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final SecurityService securityService;
+    private final ApplicationCounterService counterService;
+    private final TwoTierCache<Long, CompanyStatsResponse> statsCache;
+    private final PageCounter pageCounter;
+    private final TransactionTemplate transaction;
 
     @Autowired
     public ApplicationService(ApplicationRepository applicationRepository,
                               JobRepository jobRepository,
-                              SecurityService securityService) {
+                              SecurityService securityService,
+                              ApplicationCounterService counterService,
+                              TwoTierCache<Long, CompanyStatsResponse> statsCache,
+                              PageCounter pageCounter,
+                              PlatformTransactionManager transactionManager) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.securityService = securityService;
+        this.counterService = counterService;
+        this.statsCache = statsCache;
+        this.pageCounter = pageCounter;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
     @Transactional
     public ApplicationResponse createApplication(Long jobId, String coverLetter) {
-        User currentUser = securityService.getCurrentUser();
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        if (currentUser.getRole() != Role.CANDIDATE) {
+        if (currentUser.role() != Role.CANDIDATE) {
             throw new BusinessException("Apenas candidatos podem se candidatar a vagas");
         }
 
@@ -48,129 +77,239 @@ public class ApplicationService {
             throw new BusinessException("Não é possível se candidatar a uma vaga " + job.getStatus().name().toLowerCase());
         }
 
-        if (applicationRepository.findByCandidateIdAndJobIdAndNotDeleted(currentUser.getId(), jobId).isPresent()) {
+        if (applicationRepository.findByCandidateIdAndJobIdAndNotDeleted(currentUser.id(), jobId).isPresent()) {
             throw new BusinessException("Você já se candidatou a esta vaga");
         }
 
         Application application = new Application();
-        application.setCandidate(currentUser);
+        application.setCandidate(securityService.getCurrentUserReference());
         application.setJobVacancy(job);
         application.setCoverLetter(coverLetter);
         application.setStatus(ApplicationStatus.PENDING);
 
-        return toResponse(applicationRepository.save(application));
+        Application saved = applicationRepository.save(application);
+        counterService.applicationsCreated(jobId, 1);
+        evictStats(job.getCompany().getId());
+
+        return toResponse(saved);
+    }
+
+    /**
+     * Applies the current candidate to several jobs at once. Jobs are loaded with one IN query and
+     * duplicates are checked with one set query; each item is accepted or rejected independently.
+     *
+     * <p>A concurrent request can insert one of the same applications between that check and the batch
+     * insert, which then fails on the (candidate_id, job_vacancy_id) unique constraint. The batch is
+     * rolled back and checked again, and the retry reports that job as already applied.
+     */
+    public BatchApplicationResponse createApplications(List<CreateApplicationRequest> requests) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
+
+        if (currentUser.role() != Role.CANDIDATE) {
+            throw new BusinessException("Apenas candidatos podem se candidatar a vagas");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> applyAll(currentUser.id(), requests));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == BATCH_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    private BatchApplicationResponse applyAll(Long candidateId, List<CreateApplicationRequest> requests) {
+        Set<Long> jobIds = requests.stream().map(CreateApplicationRequest::getJobId).collect(Collectors.toSet());
+        Map<Long, JobVacancy> jobs = jobRepository.findAllByIdInWithCompany(jobIds).stream()
+                .filter(job -> !job.isDeleted())
+                .collect(Collectors.toMap(JobVacancy::getId, Function.identity()));
+        Set<Long> applied = new HashSet<>(applicationRepository.findAppliedJobIds(candidateId, jobIds));
+        User candidate = securityService.getCurrentUserReference();
+
+        BatchApplicationItemResponse[] results = new BatchApplicationItemResponse[requests.size()];
+        List<Application> pending = new ArrayList<>();
+        List<Integer> pendingPositions = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateApplicationRequest request = requests.get(i);
+            JobVacancy job = jobs.get(request.getJobId());
+
+            if (job == null) {
+                results[i] = BatchApplicationItemResponse.rejected(request.getJobId(), "Vaga não encontrada");
+            } else if (job.getStatus() != JobStatus.OPEN) {
+                results[i] = BatchApplicationItemResponse.rejected(request.getJobId(),
+                        "Não é possível se candidatar a uma vaga " + job.getStatus().name().toLowerCase());
+            } else if (!applied.add(job.getId())) {
+                results[i] = BatchApplicationItemResponse.rejected(request.getJobId(), "Você já se candidatou a esta vaga");
+            } else {
+                Application application = new Application();
+                application.setCandidate(candidate);
+                application.setJobVacancy(job);
+                application.setCoverLetter(request.getCoverLetter());
+                application.setStatus(ApplicationStatus.PENDING);
+                pending.add(application);
+                pendingPositions.add(i);
+            }
+        }
+
+        List<Application> saved = applicationRepository.saveAll(pending);
+        // Sends the batch now, so a duplicate fails here rather than at commit
+        applicationRepository.flush();
+        pending.stream()
+                .collect(Collectors.groupingBy(application -> application.getJobVacancy().getId(), Collectors.counting()))
+                .forEach((jobId, count) -> counterService.applicationsCreated(jobId, count.intValue()));
+        pending.stream().map(application -> application.getJobVacancy().getCompany().getId()).distinct().forEach(this::evictStats);
+        for (int i = 0; i < saved.size(); i++) {
+            results[pendingPositions.get(i)] = BatchApplicationItemResponse.created(toResponse(saved.get(i)));
+        }
+
+        return new BatchApplicationResponse(Arrays.asList(results));
     }
 
     @Transactional(readOnly = true)
-    public ApplicationResponse getApplicationById(Long id) {
-        User currentUser = securityService.getCurrentUser();
+    public ApplicationVersion getApplicationVersion(Long id) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        Application application = applicationRepository.findByIdAndNotDeleted(id)
+        ApplicationVersion version = applicationRepository.findVersionById(id)
                 .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
 
-        if (currentUser.getRole() == Role.ADMIN) {
-            return toResponse(application);
+        if (!canAccess(currentUser, version)) {
+            throw new BusinessException("Você não tem permissão para visualizar esta candidatura");
         }
 
-        if (currentUser.getRole() == Role.CANDIDATE) {
-            if (!application.getCandidate().getId().equals(currentUser.getId())) {
-                throw new BusinessException("Você não tem permissão para visualizar esta candidatura");
-            }
-            return toResponse(application);
-        }
+        return version;
+    }
 
-        if (currentUser.getRole() == Role.COMPANY) {
-            Long ownerUserId = application.getJobVacancy().getCompany().getUser().getId();
-            if (!ownerUserId.equals(currentUser.getId())) {
-                throw new BusinessException("Você não tem permissão para visualizar esta candidatura");
-            }
-            return toResponse(application);
+    /**
+     * Loads the application whose version {@link #getApplicationVersion} returned, reusing the ownership
+     * read with it instead of querying it again.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationResponse getApplicationById(ApplicationVersion version) {
+        if (!canAccess(securityService.getCurrentPrincipal(), version)) {
+            throw new BusinessException("Você não tem permissão para visualizar esta candidatura");
         }
 
-        throw new BusinessException("Você não tem permissão para visualizar esta candidatura");
+        Application application = applicationRepository.findByIdAndNotDeleted(version.getId())
+                .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
+        return toResponse(application);
     }
 
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getMyApplications() {
-        User currentUser = securityService.getCurrentUser();
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        if (currentUser.getRole() != Role.CANDIDATE) {
+        if (currentUser.role() != Role.CANDIDATE) {
             throw new BusinessException("Apenas candidatos podem visualizar suas candidaturas");
         }
 
-        return applicationRepository.findByCandidateIdAndNotDeleted(currentUser.getId())
+        return applicationRepository.findByCandidateIdAndNotDeleted(currentUser.id())
                 .stream()
                 .map(this::toResponse)
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public Page<ApplicationResponse> getApplicationsByJob(Long jobId, ApplicationStatus status, Pageable pageable) {
-        User currentUser = securityService.getCurrentUser();
+    public CountedPage<ApplicationResponse> getApplicationsByJob(Long jobId, ApplicationStatus status, Pageable pageable,
+                                                                 CountMode countMode) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        JobVacancy job = jobRepository.findByIdAndNotDeleted(jobId)
+        Long ownerUserId = jobRepository.findOwnerUserIdById(jobId)
                 .orElseThrow(() -> new BusinessException("Vaga não encontrada"));
 
-        if (currentUser.getRole() != Role.COMPANY) {
+        if (currentUser.role() != Role.COMPANY) {
             throw new BusinessException("Apenas empresas podem visualizar candidaturas de suas vagas");
         }
 
-        if (!job.getCompany().getUser().getId().equals(currentUser.getId())) {
+        if (!ownerUserId.equals(currentUser.id())) {
             throw new BusinessException("Você não tem permissão para visualizar candidaturas desta vaga");
         }
 
-        return applicationRepository.findByJobIdAndStatusAndNotDeleted(jobId, status, pageable)
-                .map(this::toResponse);
+        // The estimate is the job's maintained counter
+        return pageCounter.page(countMode,
+                () -> applicationRepository.findByJobIdAndStatusAndNotDeleted(jobId, status, pageable),
+                () -> applicationRepository.findSliceByJobIdAndStatusAndNotDeleted(jobId, status, pageable),
+                limit -> applicationRepository.countByJobIdAndStatusUpTo(jobId, status, limit),
+                () -> jobRepository.findApplicationCountsById(jobId)
+                        .map(counts -> OptionalLong.of(counts.count(status)))
+                        .orElse(OptionalLong.empty())
+        ).map(this::toResponse);
     }
 
+    /**
+     * Status changes are conditional on the status the counters are adjusted from; when another request
+     * got there first, the change is retried against the application's current status.
+     */
     @Transactional
     public ApplicationResponse updateApplicationStatus(Long applicationId, ApplicationStatus newStatus) {
-        User currentUser = securityService.getCurrentUser();
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        Application application = applicationRepository.findByIdAndNotDeleted(applicationId)
-                .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
+        ApplicationOwnership ownership = findOwnership(applicationId);
 
-        if (currentUser.getRole() != Role.COMPANY) {
+        if (currentUser.role() != Role.COMPANY) {
             throw new BusinessException("Apenas empresas podem atualizar o status de candidaturas");
         }
 
-        Long ownerUserId = application.getJobVacancy().getCompany().getUser().getId();
-        if (!ownerUserId.equals(currentUser.getId())) {
+        if (!ownership.getCompanyUserId().equals(currentUser.id())) {
             throw new BusinessException("Você não tem permissão para atualizar esta candidatura");
         }
 
-        application.setStatus(newStatus);
-        return toResponse(applicationRepository.save(application));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime decidedAt = newStatus.isDecision() ? now : null;
+        ApplicationStatus previousStatus = ownership.getStatus();
+        while (previousStatus != newStatus
+                && applicationRepository.updateStatus(applicationId, previousStatus, newStatus, decidedAt, now) == 0) {
+            previousStatus = findOwnership(applicationId).getStatus();
+        }
+
+        if (previousStatus != newStatus) {
+            counterService.statusChanged(ownership.getJobId(), previousStatus, newStatus);
+            evictStats(ownership.getCompanyId());
+        }
+
+        Application application = applicationRepository.findByIdAndNotDeleted(applicationId)
+                .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
+        return toResponse(application);
     }
 
     @Transactional
     public void deleteApplication(Long applicationId) {
-        User currentUser = securityService.getCurrentUser();
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
 
-        Application application = applicationRepository.findByIdAndNotDeleted(applicationId)
-                .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
+        ApplicationOwnership ownership = findOwnership(applicationId);
 
-        if (currentUser.getRole() == Role.ADMIN) {
-            application.setDeletedAt(LocalDateTime.now());
-            applicationRepository.save(application);
-            return;
+        if (!canAccess(currentUser, ownership)) {
+            throw new BusinessException("Você não tem permissão para deletar esta candidatura");
         }
 
-        if (currentUser.getRole() == Role.CANDIDATE) {
-            if (!application.getCandidate().getId().equals(currentUser.getId())) {
-                throw new BusinessException("Você não tem permissão para deletar esta candidatura");
-            }
-        } else if (currentUser.getRole() == Role.COMPANY) {
-            Long ownerUserId = application.getJobVacancy().getCompany().getUser().getId();
-            if (!ownerUserId.equals(currentUser.getId())) {
-                throw new BusinessException("Você não tem permissão para deletar esta candidatura");
-            }
-        } else {
-            throw new BusinessException("Você não tem permissão para deletar esta candidatura");
+        // Conditional on the status the counters are decremented from, as for status changes
+        ApplicationStatus status = ownership.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        while (applicationRepository.softDeleteByIdAndStatus(applicationId, status, now) == 0) {
+            Optional<ApplicationOwnership> current = applicationRepository.findOwnershipById(applicationId);
+            if (current.isEmpty()) return;
+            status = current.get().getStatus();
         }
 
-        application.setDeletedAt(LocalDateTime.now());
-        applicationRepository.save(application);
+        counterService.applicationDeleted(ownership.getJobId(), status);
+        evictStats(ownership.getCompanyId());
+    }
+
+    private ApplicationOwnership findOwnership(Long applicationId) {
+        return applicationRepository.findOwnershipById(applicationId)
+                .orElseThrow(() -> new BusinessException("Candidatura não encontrada"));
+    }
+
+    private void evictStats(Long companyId) {
+        AfterCommit.run(() -> statsCache.invalidate(companyId));
+    }
+
+    private boolean canAccess(AuthenticatedPrincipal currentUser, ApplicationOwnership ownership) {
+        return switch (currentUser.role()) {
+            case ADMIN -> true;
+            case CANDIDATE -> ownership.getCandidateId().equals(currentUser.id());
+            case COMPANY -> ownership.getCompanyUserId().equals(currentUser.id());
+        };
     }
 
     private ApplicationResponse toResponse(Application application) {
@@ -197,6 +336,6 @@ public class ApplicationService {
 
     private CompanySummaryResponse toCompanySummary(Company company) {
         if (company == null) return null;
-        return new CompanySummaryResponse(company.getId(), company.getName(), company.getWebsite());
+        return new CompanySummaryResponse(company.getId(), company.getName(), company.getWebsite(), company.getUpdatedAt());
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.jobs.jobboard.service;
 
-import com.jobs.jobboard.config.security.JwtService;
+import com.jobs.jobboard.config.security.LoginRateLimiter;
+import com.jobs.jobboard.config.security.PasswordHasher;
 import com.jobs.jobboard.dto.request.LoginRequest;
 import com.jobs.jobboard.dto.response.LoginResponse;
 import com.jobs.jobboard.dto.response.UserResponse;
@@ -8,37 +9,59 @@ import com.jobs.jobboard.entity.User;
 import com.jobs.jobboard.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenService tokenService;
 
     @Autowired
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher,
+                       LoginRateLimiter loginRateLimiter, TokenService tokenService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.jwtService = jwtService;
+        this.passwordHasher = passwordHasher;
+        this.loginRateLimiter = loginRateLimiter;
+        this.tokenService = tokenService;
     }
 
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BadCredentialsException("Credenciais inválidas"));
+    // Not transactional: the password check must not hold a pooled connection while it waits for a hashing thread
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        loginRateLimiter.acquire(clientIp, request.getEmail());
+
+        Optional<User> found = userRepository.findByEmail(request.getEmail());
+        if (found.isEmpty()) {
+            passwordHasher.matchesNothing(request.getPassword());
+            throw new BadCredentialsException("Credenciais inválidas");
+        }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        User user = found.get();
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new BadCredentialsException("Credenciais inválidas");
         }
 
-        String token = jwtService.generateToken(user.getEmail(), user.getId(), user.getRole().name());
-        UserResponse userResponse = convertToResponse(user);
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            userRepository.rehashPassword(user.getId(), user.getPassword(), passwordHasher.encode(request.getPassword()));
+        }
+
+        return toResponse(tokenService.issue(user));
+    }
+
+    public LoginResponse refresh(String refreshToken) {
+        return toResponse(tokenService.refresh(refreshToken));
+    }
+
+    public void logout(String accessToken, String refreshToken) {
+        tokenService.logout(accessToken, refreshToken);
+    }
 
-        return new LoginResponse(token, userResponse);
+    private LoginResponse toResponse(TokenService.Tokens tokens) {
+        return new LoginResponse(tokens.accessToken(), tokens.refreshToken(), convertToResponse(tokens.user()));
     }
 
     private UserResponse convertToResponse(User user) {
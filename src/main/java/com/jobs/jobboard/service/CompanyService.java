@@ -1,38 +1,83 @@
 package com.jobs.jobboard.service;
 
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.cache.VersionedCache;
+import com.jobs.jobboard.config.ReplicaRoutingDataSource;
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.config.security.AuthzEpochs;
 import com.jobs.jobboard.dto.response.CompanyResponse;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.DailyApplicationsResponse;
+import com.jobs.jobboard.dto.response.JobApplicationStatsResponse;
+import com.jobs.jobboard.dto.response.JobResponse;
 import com.jobs.jobboard.entity.Company;
 import com.jobs.jobboard.entity.Role;
-import com.jobs.jobboard.entity.User;
 import com.jobs.jobboard.exception.BusinessException;
+import com.jobs.jobboard.repository.ApplicationRepository;
 import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.projection.CompanyApplicationStats;
+import com.jobs.jobboard.search.JobSearchIndex;
+import com.jobs.jobboard.search.JobSearchKey;
+import com.jobs.jobboard.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 public class CompanyService {
 
+    private static final int STATS_DAYS = 30;
+
     private final CompanyRepository companyRepository;
+    private final ApplicationRepository applicationRepository;
     private final SecurityService securityService;
+    private final AuthzEpochs authzEpochs;
+    private final JobSearchIndex searchIndex;
+    private final TwoTierCache<Long, CompanyResponse> companyCache;
+    private final TwoTierCache<Long, JobResponse> jobCache;
+    private final VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache;
+    private final TwoTierCache<Long, CompanyStatsResponse> statsCache;
+    private final TransactionTemplate primaryRead;
 
     @Autowired
-    public CompanyService(CompanyRepository companyRepository, SecurityService securityService) {
+    public CompanyService(CompanyRepository companyRepository, ApplicationRepository applicationRepository,
+                          SecurityService securityService, AuthzEpochs authzEpochs, JobSearchIndex searchIndex,
+                          TwoTierCache<Long, CompanyResponse> companyCache,
+                          TwoTierCache<Long, JobResponse> jobCache,
+                          VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache,
+                          TwoTierCache<Long, CompanyStatsResponse> statsCache,
+                          PlatformTransactionManager transactionManager) {
         this.companyRepository = companyRepository;
+        this.applicationRepository = applicationRepository;
         this.securityService = securityService;
+        this.authzEpochs = authzEpochs;
+        this.searchIndex = searchIndex;
+        this.companyCache = companyCache;
+        this.jobCache = jobCache;
+        this.searchCache = searchCache;
+        this.statsCache = statsCache;
+        this.primaryRead = ReplicaRoutingDataSource.primaryReadOnly(transactionManager);
     }
 
     @Transactional
     public CompanyResponse createCompany(String name, String description, String cnpj, String website) {
-        User currentUser = securityService.getCurrentUser();
-        
-        if (currentUser.getRole() != Role.COMPANY) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
+
+        if (currentUser.role() != Role.COMPANY) {
             throw new BusinessException("Apenas usuários com perfil de empresa podem criar uma empresa");
         }
 
-        if (companyRepository.findByUserIdAndNotDeleted(currentUser.getId()).isPresent()) {
+        if (companyRepository.findIdByUserIdAndNotDeleted(currentUser.id()).isPresent()) {
             throw new BusinessException("Você já possui uma empresa cadastrada");
         }
 
@@ -41,37 +86,54 @@ public class CompanyService {
         company.setDescription(description);
         company.setCnpj(cnpj);
         company.setWebsite(website);
-        company.setUser(currentUser);
+        company.setUser(securityService.getCurrentUserReference());
 
         return toResponse(companyRepository.save(company));
     }
 
     public CompanyResponse getCompanyById(Long id) {
-        Company company = companyRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
-        return toResponse(company);
+        return companyCache.get(id, key -> primaryRead.execute(status -> {
+            Company company = companyRepository.findByIdAndNotDeleted(key)
+                    .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+            return toResponse(company);
+        }));
     }
 
     public CompanyResponse getMyCompany() {
-        User currentUser = securityService.getCurrentUser();
-        
-        if (currentUser.getRole() != Role.COMPANY) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
+
+        if (currentUser.role() != Role.COMPANY) {
             throw new BusinessException("Apenas empresas podem visualizar seus dados");
         }
 
-        Company company = companyRepository.findByUserIdAndNotDeleted(currentUser.getId())
+        Long companyId = securityService.getCurrentCompanyId()
                 .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
-        return toResponse(company);
+        return getCompanyById(companyId);
+    }
+
+    /**
+     * Recruiter dashboard for the current company, aggregated from a single grouped query and cached
+     * until an application or job of the company changes.
+     */
+    public CompanyStatsResponse getMyCompanyStats() {
+        if (securityService.getCurrentRole() != Role.COMPANY) {
+            throw new BusinessException("Apenas empresas podem visualizar estatísticas");
+        }
+
+        Long companyId = securityService.getCurrentCompanyId()
+                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+
+        return statsCache.get(companyId, key -> primaryRead.execute(status -> computeStats(key)));
     }
 
     @Transactional
     public CompanyResponse updateCompany(String name, String description, String cnpj, String website) {
-        User currentUser = securityService.getCurrentUser();
-        
-        Company company = companyRepository.findByUserIdAndNotDeleted(currentUser.getId())
+        Long currentUserId = securityService.getCurrentUserId();
+
+        Company company = companyRepository.findByUserIdAndNotDeleted(currentUserId)
                 .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
 
-        if (!company.getUser().getId().equals(currentUser.getId())) {
+        if (!company.getUser().getId().equals(currentUserId)) {
             throw new BusinessException("Você não tem permissão para editar esta empresa");
         }
 
@@ -80,22 +142,73 @@ public class CompanyService {
         if (cnpj != null) company.setCnpj(cnpj);
         if (website != null) company.setWebsite(website);
 
-        return toResponse(companyRepository.save(company));
+        Company saved = companyRepository.save(company);
+        if (name != null) searchIndex.renameCompany(saved.getId(), saved.getName());
+        evict(saved.getId());
+
+        return toResponse(saved);
     }
 
     @Transactional
     public void deleteCompany(Long companyId) {
-        User currentUser = securityService.getCurrentUser();
-        
-        Company company = companyRepository.findByIdAndNotDeleted(companyId)
+        Long currentUserId = securityService.getCurrentUserId();
+
+        Long ownerUserId = companyRepository.findOwnerUserIdById(companyId)
                 .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
 
-        if (!company.getUser().getId().equals(currentUser.getId())) {
+        if (!ownerUserId.equals(currentUserId)) {
             throw new BusinessException("Você não tem permissão para deletar esta empresa");
         }
 
-        company.setDeletedAt(LocalDateTime.now());
-        companyRepository.save(company);
+        companyRepository.softDeleteById(companyId, LocalDateTime.now());
+        // The owner's access tokens still name this company; refuse them until they are refreshed
+        authzEpochs.advance(ownerUserId);
+        searchIndex.removeCompany(companyId);
+        evict(companyId);
+    }
+
+    private void evict(Long companyId) {
+        AfterCommit.run(() -> {
+            companyCache.invalidate(companyId);
+            jobCache.invalidateIf(job -> job.getCompany() != null && companyId.equals(job.getCompany().getId()));
+            searchCache.advance();
+        });
+    }
+
+    private CompanyStatsResponse computeStats(Long companyId) {
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(STATS_DAYS - 1);
+
+        CompanyStatsResponse stats = new CompanyStatsResponse(companyId);
+        Map<Long, JobApplicationStatsResponse> jobs = new LinkedHashMap<>();
+        Map<LocalDate, Long> perDay = new TreeMap<>();
+        long decisionSeconds = 0;
+
+        for (CompanyApplicationStats row : applicationRepository.aggregateByCompanyId(companyId, firstDay.atStartOfDay())) {
+            stats.setTotalApplications(stats.getTotalApplications() + row.getApplications());
+            stats.getByStatus().merge(row.getStatus(), row.getApplications(), Long::sum);
+            stats.setDecidedApplications(stats.getDecidedApplications() + row.getDecided());
+            if (row.getDecisionSeconds() != null) decisionSeconds += row.getDecisionSeconds();
+            if (row.getDay() != null) perDay.merge(row.getDay(), row.getApplications(), Long::sum);
+
+            JobApplicationStatsResponse job = jobs.computeIfAbsent(row.getJobId(),
+                    id -> new JobApplicationStatsResponse(id, row.getJobTitle()));
+            job.setTotal(job.getTotal() + row.getApplications());
+            job.getByStatus().merge(row.getStatus(), row.getApplications(), Long::sum);
+        }
+
+        if (stats.getDecidedApplications() > 0) {
+            stats.setAverageHoursToDecision(decisionSeconds / 3600.0 / stats.getDecidedApplications());
+        }
+
+        for (LocalDate day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+            stats.getPerDay().add(new DailyApplicationsResponse(day, perDay.getOrDefault(day, 0L)));
+        }
+
+        stats.getJobs().addAll(jobs.values());
+        stats.getJobs().sort(Comparator.comparingLong(JobApplicationStatsResponse::getTotal).reversed());
+
+        return stats;
     }
 
     private CompanyResponse toResponse(Company company) {
@@ -0,0 +1,407 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.cache.VersionedCache;
+import com.jobs.jobboard.dto.request.CreateJobRequest;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.JobImportErrorResponse;
+import com.jobs.jobboard.dto.response.JobImportResponse;
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.entity.*;
+import com.jobs.jobboard.exception.BusinessException;
+import com.jobs.jobboard.importing.JobImportReader;
+import com.jobs.jobboard.importing.JobImportRow;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobImportErrorRepository;
+import com.jobs.jobboard.repository.JobImportRepository;
+import com.jobs.jobboard.search.JobSearchIndex;
+import com.jobs.jobboard.search.JobSearchKey;
+import com.jobs.jobboard.util.AfterCommit;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk job uploads. The request body is copied to a spool file as it arrives (never buffered whole, and
+ * without holding a database connection), then imported in the background: rows are read one at a time,
+ * validated with the {@link CreateJobRequest} constraints and inserted {@code chunk-size} at a time, each
+ * chunk in its own transaction with JDBC batching. The chunk's rejected rows and the import's progress
+ * are committed with it, so an import interrupted by a restart resumes after the last committed chunk,
+ * and a failed one can be resumed once the cause is fixed.
+ */
+@Service
+public class JobImportService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    private static final int MAX_ERROR_PAGE_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobImportRepository jobImportRepository;
+    private final JobImportErrorRepository jobImportErrorRepository;
+    private final CompanyRepository companyRepository;
+    private final SecurityService securityService;
+    private final JobSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache;
+    private final TwoTierCache<Long, CompanyStatsResponse> statsCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Path spoolDir;
+    private final long maxBytes;
+    private final int chunkSize;
+    private final int maxRecordChars;
+    private final int maxStoredErrors;
+    private final Duration retention;
+    private final ExecutorService executor;
+
+    private volatile boolean shuttingDown;
+
+    @Autowired
+    public JobImportService(JobImportRepository jobImportRepository,
+                            JobImportErrorRepository jobImportErrorRepository,
+                            CompanyRepository companyRepository,
+                            SecurityService securityService,
+                            JobSearchIndex searchIndex,
+                            EntityManager entityManager,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache,
+                            TwoTierCache<Long, CompanyStatsResponse> statsCache,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${jobboard.import.spool-dir:${java.io.tmpdir}/jobboard-imports}") Path spoolDir,
+                            @Value("${jobboard.import.max-size:100MB}") DataSize maxSize,
+                            @Value("${jobboard.import.chunk-size:500}") int chunkSize,
+                            @Value("${jobboard.import.max-record-chars:65536}") int maxRecordChars,
+                            @Value("${jobboard.import.max-stored-errors:1000}") int maxStoredErrors,
+                            @Value("${jobboard.import.failed-retention:P7D}") Duration retention,
+                            @Value("${jobboard.import.concurrency:2}") int concurrency) {
+        this.jobImportRepository = jobImportRepository;
+        this.jobImportErrorRepository = jobImportErrorRepository;
+        this.companyRepository = companyRepository;
+        this.securityService = securityService;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.searchCache = searchCache;
+        this.statsCache = statsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spoolDir = spoolDir;
+        this.maxBytes = maxSize.toBytes();
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxRecordChars = maxRecordChars;
+        this.maxStoredErrors = maxStoredErrors;
+        this.retention = retention;
+        this.executor = Executors.newFixedThreadPool(Math.max(concurrency, 1),
+                Thread.ofVirtual().name("job-import-", 1).factory());
+    }
+
+    /**
+     * Spools the upload and queues it; the returned import is PENDING.
+     */
+    public JobImportResponse start(JobImportFormat format, InputStream body) throws IOException {
+        if (securityService.getCurrentRole() != Role.COMPANY) {
+            throw new BusinessException("Apenas empresas podem importar vagas");
+        }
+
+        Path file = spool(format, body);
+        JobImport jobImport;
+        try {
+            Long companyId = securityService.getCurrentCompanyId()
+                    .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+
+            jobImport = new JobImport();
+            jobImport.setCompany(companyRepository.getReferenceById(companyId));
+            jobImport.setFormat(format);
+            jobImport.setSpoolFile(file.getFileName().toString());
+            jobImport = jobImportRepository.save(jobImport);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        Long importId = jobImport.getId();
+        executor.execute(() -> run(importId));
+        return toResponse(jobImport);
+    }
+
+    public JobImportResponse getImport(Long id) {
+        return toResponse(findOwned(id));
+    }
+
+    /**
+     * Rejected rows in line order, {@code size} at a time after {@code afterLine}.
+     */
+    public List<JobImportErrorResponse> getErrors(Long id, int afterLine, int size) {
+        JobImport jobImport = findOwned(id);
+        int pageSize = Math.clamp(size, 1, MAX_ERROR_PAGE_SIZE);
+
+        return jobImportErrorRepository.findByImportIdAfter(jobImport.getId(), afterLine, Limit.of(pageSize))
+                .stream()
+                .map(error -> new JobImportErrorResponse(error.getLine(), error.getMessage()))
+                .toList();
+    }
+
+    /**
+     * Queues a failed import again; it continues after the last committed chunk.
+     */
+    public JobImportResponse resume(Long id) {
+        JobImport jobImport = findOwned(id);
+
+        if (jobImport.getStatus() != JobImportStatus.FAILED) {
+            throw new BusinessException("Apenas importações com falha podem ser retomadas");
+        }
+        if (!Files.exists(spoolDir.resolve(jobImport.getSpoolFile()))) {
+            throw new BusinessException("Arquivo da importação não encontrado nesta instância");
+        }
+        if (jobImportRepository.transition(id, List.of(JobImportStatus.FAILED), JobImportStatus.PENDING, LocalDateTime.now()) == 0) {
+            throw new BusinessException("Apenas importações com falha podem ser retomadas");
+        }
+
+        executor.execute(() -> run(id));
+        return toResponse(jobImportRepository.findById(id).orElseThrow());
+    }
+
+    /**
+     * Picks up imports this instance was running or had queued when it stopped. Imports spooled on
+     * another instance are left to it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (Long id : jobImportRepository.findIdsByStatusIn(List.of(JobImportStatus.PENDING, JobImportStatus.RUNNING))) {
+            jobImportRepository.findById(id)
+                    .filter(jobImport -> Files.exists(spoolDir.resolve(jobImport.getSpoolFile())))
+                    .ifPresent(jobImport -> {
+                        jobImportRepository.transition(id, List.of(JobImportStatus.RUNNING), JobImportStatus.PENDING, LocalDateTime.now());
+                        log.info("Resuming job import {} after row {}", id, jobImport.getProcessedRows());
+                        executor.execute(() -> run(id));
+                    });
+        }
+    }
+
+    /**
+     * Deletes the files of imports that failed more than {@code retention} ago and were not resumed.
+     */
+    @Scheduled(cron = "${jobboard.import.purge-cron:0 30 3 * * *}")
+    public void purgeFailed() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        for (String spoolFile : jobImportRepository.findSpoolFilesFailedBefore(cutoff)) {
+            try {
+                Files.deleteIfExists(spoolDir.resolve(spoolFile));
+            } catch (IOException e) {
+                log.warn("Could not delete job import file {}", spoolFile, e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // Imports still running stay RUNNING and are resumed on the next start
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+
+    private void run(Long importId) {
+        if (jobImportRepository.transition(importId, List.of(JobImportStatus.PENDING), JobImportStatus.RUNNING, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        JobImport jobImport = jobImportRepository.findById(importId).orElseThrow();
+        Path file = spoolDir.resolve(jobImport.getSpoolFile());
+        try {
+            process(jobImport, file);
+            jobImportRepository.finish(importId, JobImportStatus.COMPLETED, null, LocalDateTime.now());
+            Files.deleteIfExists(file);
+        } catch (Exception e) {
+            if (shuttingDown) return;
+
+            String message = e instanceof CharacterCodingException
+                    ? "Arquivo não está codificado em UTF-8"
+                    : e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("Job import {} failed: {}", importId, message, e);
+            jobImportRepository.finish(importId, JobImportStatus.FAILED, truncate(message), LocalDateTime.now());
+        }
+    }
+
+    private void process(JobImport jobImport, Path file) throws IOException {
+        Long companyId = jobImport.getCompany().getId();
+        int position = jobImport.getProcessedRows();
+        int failed = jobImport.getFailedRows();
+
+        try (JobImportReader reader = JobImportReader.open(jobImport.getFormat(),
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), objectMapper, maxRecordChars)) {
+            // Rows up to the checkpoint were committed by an earlier run
+            int skipped = 0;
+            while (skipped < position && reader.next() != null) {
+                skipped++;
+            }
+
+            List<JobImportRow> chunk = new ArrayList<>(chunkSize);
+            JobImportRow row;
+            do {
+                row = reader.next();
+                if (row != null) chunk.add(row);
+
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                    failed += writeChunk(jobImport.getId(), companyId, position, chunk, failed);
+                    position += chunk.size();
+                    chunk.clear();
+                }
+            } while (row != null);
+        }
+    }
+
+    /**
+     * Inserts the valid rows of one chunk, records the rejected ones and advances the checkpoint, all
+     * in one transaction. Returns the number of rejected rows.
+     */
+    private int writeChunk(Long importId, Long companyId, int fromRow, List<JobImportRow> rows, int failedSoFar) {
+        return transactionTemplate.execute(status -> {
+            Company company = companyRepository.findByIdAndNotDeleted(companyId)
+                    .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+            JobImport jobImport = entityManager.getReference(JobImport.class, importId);
+
+            List<JobVacancy> created = new ArrayList<>(rows.size());
+            int failed = 0;
+
+            for (JobImportRow row : rows) {
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    if (failedSoFar + failed < maxStoredErrors) {
+                        entityManager.persist(new JobImportError(jobImport, row.line(), truncate(error)));
+                    }
+                    failed++;
+                    continue;
+                }
+
+                CreateJobRequest request = row.request();
+                JobVacancy job = new JobVacancy();
+                job.setTitle(request.getTitle());
+                job.setDescription(request.getDescription());
+                job.setLocation(request.getLocation());
+                job.setSalaryMin(request.getSalaryMin());
+                job.setSalaryMax(request.getSalaryMax());
+                job.setStatus(JobStatus.OPEN);
+                job.setCompany(company);
+                entityManager.persist(job);
+                created.add(job);
+            }
+
+            // Sends the inserts as JDBC batches (hibernate.jdbc.batch_size) before the checkpoint update
+            entityManager.flush();
+            if (jobImportRepository.advance(importId, fromRow, fromRow + rows.size(),
+                    created.size(), failed, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("Importação alterada por outro processo");
+            }
+
+            if (!created.isEmpty()) {
+                created.forEach(searchIndex::index);
+                AfterCommit.run(() -> {
+                    searchCache.advance();
+                    statsCache.invalidate(companyId);
+                });
+            }
+            return failed;
+        });
+    }
+
+    private String validate(CreateJobRequest request) {
+        Set<ConstraintViolation<CreateJobRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) return null;
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Path spool(JobImportFormat format, InputStream body) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path file = Files.createTempFile(spoolDir, "import-", "." + format.name().toLowerCase(Locale.ROOT));
+
+        try (OutputStream output = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[64 * 1024];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new BusinessException("Arquivo excede o limite de " + DataSize.ofBytes(maxBytes).toMegabytes() + " MB");
+                }
+                output.write(buffer, 0, read);
+            }
+
+            if (total == 0) {
+                throw new BusinessException("Arquivo vazio");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private JobImport findOwned(Long id) {
+        if (securityService.getCurrentRole() != Role.COMPANY) {
+            throw new BusinessException("Apenas empresas podem consultar importações");
+        }
+
+        Long companyId = securityService.getCurrentCompanyId()
+                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+        return jobImportRepository.findByIdAndCompanyId(id, companyId)
+                .orElseThrow(() -> new BusinessException("Importação não encontrada"));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private JobImportResponse toResponse(JobImport jobImport) {
+        return new JobImportResponse(
+                jobImport.getId(),
+                jobImport.getFormat(),
+                jobImport.getStatus(),
+                jobImport.getProcessedRows(),
+                jobImport.getImportedRows(),
+                jobImport.getFailedRows(),
+                jobImport.getError(),
+                jobImport.getCreatedAt(),
+                jobImport.getUpdatedAt(),
+                jobImport.getFinishedAt()
+        );
+    }
+}
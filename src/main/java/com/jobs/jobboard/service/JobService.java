@@ -1,45 +1,112 @@
 package com.jobs.jobboard.service;
 
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.cache.VersionedCache;
+import com.jobs.jobboard.config.ReplicaRoutingDataSource;
+import com.jobs.jobboard.dto.response.ApplicationCountsResponse;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
 import com.jobs.jobboard.dto.response.CompanySummaryResponse;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.CursorPage;
 import com.jobs.jobboard.dto.response.JobResponse;
 import com.jobs.jobboard.entity.*;
 import com.jobs.jobboard.exception.BusinessException;
 import com.jobs.jobboard.repository.CompanyRepository;
 import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.search.JobSearchIndex;
+import com.jobs.jobboard.search.JobSearchKey;
+import com.jobs.jobboard.search.JobSearchQuery;
+import com.jobs.jobboard.search.JobSearchResult;
+import com.jobs.jobboard.search.JobSearchSql;
+import com.jobs.jobboard.util.AfterCommit;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class JobService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final String COMPANY_JOBS_SQL =
+            "SELECT 1 FROM job_vacancies WHERE company_id = :companyId AND deleted_at IS NULL";
+
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
     private final SecurityService securityService;
+    private final JobSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryRead;
+    private final TwoTierCache<Long, JobResponse> jobCache;
+    private final VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache;
+    private final TwoTierCache<Long, CompanyStatsResponse> statsCache;
+    private final PageCounter pageCounter;
+    private final int searchCacheMaxPage;
 
     @Autowired
-    public JobService(JobRepository jobRepository, CompanyRepository companyRepository, SecurityService securityService) {
+    public JobService(JobRepository jobRepository, CompanyRepository companyRepository,
+                      SecurityService securityService, JobSearchIndex searchIndex,
+                      EntityManager entityManager, ObjectMapper objectMapper,
+                      PlatformTransactionManager transactionManager,
+                      TwoTierCache<Long, JobResponse> jobCache,
+                      VersionedCache<JobSearchKey, CountedPage<JobResponse>> searchCache,
+                      TwoTierCache<Long, CompanyStatsResponse> statsCache,
+                      PageCounter pageCounter,
+                      @Value("${jobboard.cache.search.max-page:4}") int searchCacheMaxPage) {
         this.jobRepository = jobRepository;
         this.companyRepository = companyRepository;
         this.securityService = securityService;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryRead = ReplicaRoutingDataSource.primaryReadOnly(transactionManager);
+        this.jobCache = jobCache;
+        this.searchCache = searchCache;
+        this.statsCache = statsCache;
+        this.pageCounter = pageCounter;
+        this.searchCacheMaxPage = searchCacheMaxPage;
     }
 
     @Transactional
     public JobResponse createJob(String title, String description, String location, 
                                  BigDecimal salaryMin, BigDecimal salaryMax) {
-        User currentUser = securityService.getCurrentUser();
-        
-        if (currentUser.getRole() != Role.COMPANY) {
+        AuthenticatedPrincipal currentUser = securityService.getCurrentPrincipal();
+
+        if (currentUser.role() != Role.COMPANY) {
             throw new BusinessException("Apenas empresas podem criar vagas");
         }
 
-        Company company = companyRepository.findByUserIdAndNotDeleted(currentUser.getId())
+        Company company = securityService.getCurrentCompanyId()
+                .flatMap(companyRepository::findByIdAndNotDeleted)
                 .orElseThrow(() -> new BusinessException("Empresa não encontrada para o usuário"));
 
         JobVacancy job = new JobVacancy();
@@ -51,14 +118,23 @@ public class JobService {
         job.setStatus(JobStatus.OPEN);
         job.setCompany(company);
 
-        return toResponse(jobRepository.save(job));
+        JobVacancy saved = jobRepository.save(job);
+        searchIndex.index(saved);
+        AfterCommit.run(searchCache::advance);
+
+        return toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Cache hits never open a transaction; a miss loads in its own read-only one on the primary, so an
+     * update is never undone by a lagging replica refilling the cache right after the eviction.
+     */
     public JobResponse getJobById(Long id) {
-        JobVacancy job = jobRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new BusinessException("Vaga não encontrada com ID: " + id));
-        return toResponse(job);
+        return jobCache.get(id, key -> primaryRead.execute(status -> {
+            JobVacancy job = jobRepository.findByIdAndNotDeleted(key)
+                    .orElseThrow(() -> new BusinessException("Vaga não encontrada com ID: " + key));
+            return toResponse(job);
+        }));
     }
 
     @Transactional(readOnly = true)
@@ -66,15 +142,96 @@ public class JobService {
         return jobRepository.findAllNotDeleted().stream().map(this::toResponse).toList();
     }
 
+    /**
+     * Writes every matching job as one JSON document per line, streaming rows from the database
+     * and clearing the persistence context once each is written (the job, its fetched company and the
+     * company's user proxy) so memory stays flat regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public void exportJobs(JobStatus status, OutputStream output) throws IOException {
+        try (Stream<JobVacancy> jobs = jobRepository.streamNotDeleted(status)) {
+            Iterator<JobVacancy> iterator = jobs.iterator();
+            int written = 0;
+
+            while (iterator.hasNext()) {
+                JobVacancy job = iterator.next();
+                output.write(objectMapper.writeValueAsBytes(toResponse(job)));
+                output.write('\n');
+                entityManager.clear();
+
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    output.flush();
+                }
+            }
+        }
+
+        output.flush();
+    }
+
+    /**
+     * The first few pages of every filter combination are served from a short-lived cache; concurrent
+     * misses for the same page wait for one query instead of each hitting the database. Misses run in a
+     * read-only transaction on the primary, index hydration included; deeper pages are not cached and
+     * may be served by a replica.
+     */
+    public CountedPage<JobResponse> searchJobs(String keyword, String title, Long companyId, String companyName,
+                                               JobStatus status, Pageable pageable, CountMode countMode) {
+        JobSearchQuery query = new JobSearchQuery(
+                trimToNull(keyword),
+                trimToNull(title),
+                companyId,
+                trimToNull(companyName),
+                status
+        );
+
+        if (pageable.getPageNumber() >= searchCacheMaxPage) {
+            return readOnlyTransaction.execute(transaction -> searchInTransaction(query, pageable, countMode));
+        }
+
+        return searchCache.get(JobSearchKey.of(query, pageable, countMode),
+                () -> primaryRead.execute(transaction -> searchInTransaction(query, pageable, countMode)));
+    }
+
+    private CountedPage<JobResponse> searchInTransaction(JobSearchQuery query, Pageable pageable, CountMode countMode) {
+        Optional<JobSearchResult> indexed = searchIndex.search(query, pageable, countMode);
+        if (indexed.isPresent()) {
+            return hydrate(indexed.get(), pageable);
+        }
+
+        String keyword = normalize(query.keyword());
+        String title = normalize(query.title());
+        String companyName = normalize(query.companyName());
+        Pageable sorted = withoutRelevance(pageable);
+
+        return pageCounter.page(countMode,
+                () -> jobRepository.searchJobs(keyword, title, query.companyId(), companyName, query.status(), sorted),
+                () -> jobRepository.searchJobsSlice(keyword, title, query.companyId(), companyName, query.status(), sorted),
+                limit -> jobRepository.countSearchJobsUpTo(keyword, title, query.companyId(), companyName, query.status(), limit),
+                () -> {
+                    MapSqlParameterSource params = new MapSqlParameterSource();
+                    return pageCounter.plannerEstimate("SELECT 1" + JobSearchSql.fromWhere(query, params), params);
+                }
+        ).map(this::toResponse);
+    }
+
     @Transactional(readOnly = true)
-    public Page<JobResponse> searchJobs(String title, Long companyId, String companyName, JobStatus status, Pageable pageable) {
-        return jobRepository.searchJobs(
+    public CursorPage<JobResponse> searchJobsByCursor(String keyword, String title, Long companyId, String companyName,
+                                                      JobStatus status, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+
+        List<JobVacancy> rows = jobRepository.searchJobsAfter(
+                normalize(keyword),
                 normalize(title),
                 companyId,
                 normalize(companyName),
                 status,
-                pageable
-        ).map(this::toResponse);
+                position.createdAt(),
+                position.id(),
+                Limit.of(pageSize + 1)
+        );
+
+        return toCursorPage(rows, pageSize, this::toResponse);
     }
 
     @Transactional(readOnly = true)
@@ -89,38 +246,45 @@ public class JobService {
 
     @Transactional(readOnly = true)
     public List<JobResponse> getMyCompanyJobs() {
-        User currentUser = securityService.getCurrentUser();
-        
-        if (currentUser.getRole() != Role.COMPANY) {
-            throw new BusinessException("Apenas empresas podem visualizar suas vagas");
-        }
+        Long companyId = requireCurrentCompanyId();
 
-        Company company = companyRepository.findByUserIdAndNotDeleted(currentUser.getId())
-                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
-
-        return jobRepository.findByCompanyIdAndNotDeleted(company.getId()).stream().map(this::toResponse).toList();
+        return jobRepository.findByCompanyIdAndNotDeleted(companyId).stream().map(this::toOwnerResponse).toList();
     }
 
     @Transactional(readOnly = true)
-    public Page<JobResponse> getMyCompanyJobs(Pageable pageable) {
-        User currentUser = securityService.getCurrentUser();
+    public CountedPage<JobResponse> getMyCompanyJobs(Pageable pageable, CountMode countMode) {
+        Long companyId = requireCurrentCompanyId();
+
+        return pageCounter.page(countMode,
+                () -> jobRepository.findByCompanyIdAndNotDeleted(companyId, pageable),
+                () -> jobRepository.findSliceByCompanyIdAndNotDeleted(companyId, pageable),
+                limit -> jobRepository.countByCompanyIdUpTo(companyId, limit),
+                () -> pageCounter.plannerEstimate(COMPANY_JOBS_SQL, new MapSqlParameterSource("companyId", companyId))
+        ).map(this::toOwnerResponse);
+    }
 
-        if (currentUser.getRole() != Role.COMPANY) {
-            throw new BusinessException("Apenas empresas podem visualizar suas vagas");
-        }
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getMyCompanyJobsByCursor(String cursor, int size) {
+        Long companyId = requireCurrentCompanyId();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
 
-        Company company = companyRepository.findByUserIdAndNotDeleted(currentUser.getId())
-                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+        List<JobVacancy> rows = jobRepository.findByCompanyIdAfter(
+                companyId,
+                position.createdAt(),
+                position.id(),
+                Limit.of(pageSize + 1)
+        );
 
-        return jobRepository.findByCompanyIdAndNotDeleted(company.getId(), pageable).map(this::toResponse);
+        return toCursorPage(rows, pageSize, this::toOwnerResponse);
     }
 
     @Transactional
     public JobResponse updateJob(Long jobId, String title, String description, String location,
                                  BigDecimal salaryMin, BigDecimal salaryMax, JobStatus status) {
-        User currentUser = securityService.getCurrentUser();
-        
-        JobVacancy job = jobRepository.findByIdAndCompanyUserIdAndNotDeleted(jobId, currentUser.getId())
+        Long currentUserId = securityService.getCurrentUserId();
+
+        JobVacancy job = jobRepository.findByIdAndCompanyUserIdAndNotDeleted(jobId, currentUserId)
                 .orElseThrow(() -> new BusinessException("Vaga não encontrada ou você não tem permissão para editá-la"));
 
         if (title != null) job.setTitle(title);
@@ -130,18 +294,98 @@ public class JobService {
         if (salaryMax != null) job.setSalaryMax(salaryMax);
         if (status != null) job.setStatus(status);
 
-        return toResponse(jobRepository.save(job));
+        JobVacancy saved = jobRepository.save(job);
+        searchIndex.index(saved);
+        Long companyId = saved.getCompany().getId();
+        AfterCommit.run(() -> {
+            jobCache.invalidate(jobId);
+            searchCache.advance();
+            statsCache.invalidate(companyId);
+        });
+
+        return toResponse(saved);
     }
 
     @Transactional
     public void deleteJob(Long jobId) {
-        User currentUser = securityService.getCurrentUser();
-        
-        JobVacancy job = jobRepository.findByIdAndCompanyUserIdAndNotDeleted(jobId, currentUser.getId())
-                .orElseThrow(() -> new BusinessException("Vaga não encontrada ou você não tem permissão para deletá-la"));
+        Long currentUserId = securityService.getCurrentUserId();
+
+        if (jobRepository.softDeleteByIdAndCompanyUserId(jobId, currentUserId, LocalDateTime.now()) == 0) {
+            throw new BusinessException("Vaga não encontrada ou você não tem permissão para deletá-la");
+        }
+
+        searchIndex.remove(jobId);
+        Optional<Long> companyId = securityService.getCurrentCompanyId();
+        AfterCommit.run(() -> {
+            jobCache.invalidate(jobId);
+            searchCache.advance();
+            companyId.ifPresent(statsCache::invalidate);
+        });
+    }
+
+    private Long requireCurrentCompanyId() {
+        if (securityService.getCurrentRole() != Role.COMPANY) {
+            throw new BusinessException("Apenas empresas podem visualizar suas vagas");
+        }
+
+        return securityService.getCurrentCompanyId()
+                .orElseThrow(() -> new BusinessException("Empresa não encontrada"));
+    }
+
+    private CountedPage<JobResponse> hydrate(JobSearchResult result, Pageable pageable) {
+        if (result.ids().isEmpty()) {
+            return new CountedPage<>(List.of(), pageable, result.total(), result.countMode());
+        }
+
+        Map<Long, JobVacancy> jobs = jobRepository.findAllByIdInWithCompany(result.ids())
+                .stream()
+                .collect(Collectors.toMap(JobVacancy::getId, Function.identity()));
+
+        List<JobResponse> content = result.ids().stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
+                .toList();
+
+        return new CountedPage<>(content, pageable, result.total(), result.countMode());
+    }
 
-        job.setDeletedAt(LocalDateTime.now());
-        jobRepository.save(job);
+    private CursorPage<JobResponse> toCursorPage(List<JobVacancy> rows, int pageSize,
+                                                 Function<JobVacancy, JobResponse> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<JobVacancy> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobVacancy last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), pageSize, hasNext, nextCursor);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private Pageable withoutRelevance(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .filter(order -> !JobSearchIndex.RELEVANCE.equals(order.getProperty()))
+                .toList());
+
+        if (sort.isUnsorted()) {
+            sort = Sort.by(Sort.Direction.DESC, "createdAt");
+        }
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private String trimToNull(String value) {
+        if (value == null) return null;
+
+        String trimmed = value.trim();
+
+        return trimmed.isEmpty() ? null : trimmed;
     }
 
     private String normalize(String value) {
@@ -151,11 +395,11 @@ public class JobService {
 
         if (trimmed.isEmpty()) return null;
 
-        return "%" + trimmed.toLowerCase() + "%";
+        return JobSearchSql.contains(trimmed);
     }
 
 
-    private JobResponse toResponse(JobVacancy job) {
+    JobResponse toResponse(JobVacancy job) {
         return new JobResponse(
                 job.getId(),
                 job.getTitle(),
@@ -170,8 +414,20 @@ public class JobService {
         );
     }
 
+    private JobResponse toOwnerResponse(JobVacancy job) {
+        JobResponse response = toResponse(job);
+        response.setApplications(new ApplicationCountsResponse(
+                job.getApplicationsTotal(),
+                job.getApplicationsPending(),
+                job.getApplicationsReviewing(),
+                job.getApplicationsApproved(),
+                job.getApplicationsRejected()
+        ));
+        return response;
+    }
+
     private CompanySummaryResponse toCompanySummary(Company company) {
         if (company == null) return null;
-        return new CompanySummaryResponse(company.getId(), company.getName(), company.getWebsite());
+        return new CompanySummaryResponse(company.getId(), company.getName(), company.getWebsite(), company.getUpdatedAt());
     }
 }
@@ -0,0 +1,109 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.CountedPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.OptionalLong;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Builds a {@link CountedPage} in the requested {@link CountMode}. Capped and estimated pages fetch a
+ * slice (one row past the page) instead of running the full count, and skip counting altogether when
+ * the slice already shows where the results end.
+ */
+@Component
+public class PageCounter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int cap;
+
+    private volatile Boolean postgres;
+
+    @Autowired
+    public PageCounter(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                       @Value("${jobboard.pagination.count-cap:10000}") int cap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.cap = cap;
+    }
+
+    /**
+     * @param countUpTo counts matching rows but stops at the given limit ({@code Integer.MAX_VALUE} for exact)
+     * @param estimate  a cheap approximate total, or empty when none is available
+     */
+    public <T> CountedPage<T> page(CountMode mode, Supplier<Page<T>> exact, Supplier<Slice<T>> slice,
+                                   IntToLongFunction countUpTo, Supplier<OptionalLong> estimate) {
+        if (mode == CountMode.EXACT) {
+            return CountedPage.exact(exact.get());
+        }
+
+        return count(mode, slice.get(), countUpTo, estimate);
+    }
+
+    public <T> CountedPage<T> count(CountMode mode, Slice<T> slice, IntToLongFunction countUpTo,
+                                    Supplier<OptionalLong> estimate) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            return new CountedPage<>(slice.getContent(), slice.getPageable(), seen, CountMode.EXACT);
+        }
+
+        if (mode == CountMode.EXACT) {
+            return new CountedPage<>(slice.getContent(), slice.getPageable(),
+                    countUpTo.applyAsLong(Integer.MAX_VALUE), CountMode.EXACT);
+        }
+
+        // Past the last page nothing is known except that the total is below the offset
+        long atLeast = !slice.hasContent() ? 0 : slice.hasNext() ? seen + 1 : seen;
+
+        if (mode == CountMode.ESTIMATED) {
+            OptionalLong estimated = estimate.get();
+            if (estimated.isPresent()) {
+                return new CountedPage<>(slice.getContent(), slice.getPageable(),
+                        Math.max(estimated.getAsLong(), atLeast), CountMode.ESTIMATED);
+            }
+        }
+
+        long counted = countUpTo.applyAsLong(cap + 1);
+        if (counted > cap) {
+            return new CountedPage<>(slice.getContent(), slice.getPageable(), Math.max(cap, atLeast), CountMode.CAPPED);
+        }
+
+        return new CountedPage<>(slice.getContent(), slice.getPageable(), counted, CountMode.EXACT);
+    }
+
+    /**
+     * The planner's row estimate for {@code sql}; empty unless the database is PostgreSQL.
+     */
+    public OptionalLong plannerEstimate(String sql, SqlParameterSource params) {
+        if (!isPostgres()) return OptionalLong.empty();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, params, String.class);
+        JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+
+        return rows.isNumber() ? OptionalLong.of(rows.asLong()) : OptionalLong.empty();
+    }
+
+    private boolean isPostgres() {
+        Boolean current = postgres;
+        if (current == null) {
+            current = "PostgreSQL".equals(jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = current;
+        }
+        return current;
+    }
+}
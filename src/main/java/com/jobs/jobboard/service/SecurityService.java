@@ -1,45 +1,80 @@
 package com.jobs.jobboard.service;
 
-import com.jobs.jobboard.config.security.JwtService;
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.entity.Role;
 import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
 import com.jobs.jobboard.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class SecurityService {
 
     private final UserRepository userRepository;
-    private final JwtService jwtService;
+    private final CompanyRepository companyRepository;
 
     @Autowired
-    public SecurityService(UserRepository userRepository, JwtService jwtService) {
+    public SecurityService(UserRepository userRepository, CompanyRepository companyRepository) {
         this.userRepository = userRepository;
-        this.jwtService = jwtService;
+        this.companyRepository = companyRepository;
     }
 
-    public User getCurrentUser() {
+    public AuthenticatedPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
+
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("Usuário não autenticado");
         }
 
-        Object principal = authentication.getPrincipal();
-        
-        if (principal instanceof UserDetails) {
-            String email = ((UserDetails) principal).getUsername();
-            return userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException("Usuário não encontrado"));
+        if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+            return principal;
         }
-        
+
         throw new IllegalStateException("Tipo de autenticação não suportado");
     }
 
+    public User getCurrentUser() {
+        return userRepository.findByIdAndNotDeleted(getCurrentPrincipal().id())
+                .orElseThrow(() -> new IllegalStateException("Usuário não encontrado"));
+    }
+
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentPrincipal().id());
+    }
+
     public Long getCurrentUserId() {
-        return getCurrentUser().getId();
+        return getCurrentPrincipal().id();
+    }
+
+    public Role getCurrentRole() {
+        return getCurrentPrincipal().role();
+    }
+
+    /**
+     * Resolves the company owned by the current user once per request and keeps it on the principal.
+     */
+    public Optional<Long> getCurrentCompanyId() {
+        AuthenticatedPrincipal principal = getCurrentPrincipal();
+        if (principal.companyId() != null) {
+            return Optional.of(principal.companyId());
+        }
+
+        Optional<Long> companyId = companyRepository.findIdByUserIdAndNotDeleted(principal.id());
+        companyId.ifPresent(id -> remember(principal.withCompanyId(id)));
+        return companyId;
+    }
+
+    private void remember(AuthenticatedPrincipal principal) {
+        Authentication current = SecurityContextHolder.getContext().getAuthentication();
+        UsernamePasswordAuthenticationToken updated =
+                new UsernamePasswordAuthenticationToken(principal, null, current.getAuthorities());
+        updated.setDetails(current.getDetails());
+        SecurityContextHolder.getContext().setAuthentication(updated);
     }
 }
@@ -0,0 +1,199 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.config.security.JwtService;
+import com.jobs.jobboard.config.security.TokenRevocationList;
+import com.jobs.jobboard.entity.RefreshToken;
+import com.jobs.jobboard.entity.RevokedToken;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.RefreshTokenRepository;
+import com.jobs.jobboard.repository.RevokedTokenRepository;
+import com.jobs.jobboard.util.AfterCommit;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues access/refresh token pairs and revokes them. Refresh tokens rotate: each one works once, and
+ * presenting an already-used one is treated as theft and revokes the whole family (every token
+ * descended from the same login), including the access tokens issued with them.
+ *
+ * <p>Access tokens of COMPANY users carry the id of the company they own, resolved again on every
+ * refresh, so recruiter requests need not look it up.
+ */
+@Service
+public class TokenService {
+
+    public record Tokens(User user, String accessToken, String refreshToken) {}
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CompanyRepository companyRepository;
+    private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
+    private final long refreshExpiration;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public TokenService(RefreshTokenRepository refreshTokenRepository,
+                        RevokedTokenRepository revokedTokenRepository,
+                        CompanyRepository companyRepository,
+                        JwtService jwtService,
+                        TokenRevocationList revocationList,
+                        @Value("${jwt.refresh-expiration:2592000000}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.companyRepository = companyRepository;
+        this.jwtService = jwtService;
+        this.revocationList = revocationList;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Transactional
+    public Tokens issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // A failed refresh still commits the family revocation it may have triggered
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Tokens refresh(String rawRefreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Refresh token inválido"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null || refreshTokenRepository.revoke(current.getId(), now) == 0) {
+            revokeFamily(current.getFamily(), now);
+            throw new BadCredentialsException("Refresh token já utilizado");
+        }
+
+        User user = current.getUser();
+        if (current.getExpiresAt().isBefore(now) || user.getDeletedAt() != null) {
+            throw new BadCredentialsException("Refresh token expirado");
+        }
+
+        return issue(user, current.getFamily());
+    }
+
+    /**
+     * Ends the session the tokens belong to. Either token is enough; an expired access token still
+     * identifies its session.
+     */
+    @Transactional
+    public void logout(String accessToken, String rawRefreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String family = null;
+
+        if (rawRefreshToken != null && !rawRefreshToken.isBlank()) {
+            family = refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                    .map(RefreshToken::getFamily)
+                    .orElse(null);
+        }
+
+        if (family == null && accessToken != null) {
+            String jti = accessTokenId(accessToken);
+            if (jti != null) {
+                family = refreshTokenRepository.findFamilyByAccessJti(jti).orElse(null);
+            }
+        }
+
+        if (family != null) {
+            revokeFamily(family, now);
+        }
+    }
+
+    /**
+     * Signs the user out everywhere: all refresh tokens and every access token still valid.
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.revokeAllByUserId(userId, now);
+        revokeAccessTokens(refreshTokenRepository.findWithLiveAccessByUserId(userId, now));
+    }
+
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteExpired(now);
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private Tokens issue(User user, String family) {
+        // The epoch is read (with the user) before the company, so a company deleted in between is caught
+        long authzEpoch = user.getAuthzEpoch();
+        Long companyId = user.getRole() == Role.COMPANY
+                ? companyRepository.findIdByUserIdAndNotDeleted(user.getId()).orElse(null)
+                : null;
+        JwtService.IssuedToken access = jwtService.issueToken(
+                user.getEmail(), user.getId(), user.getRole().name(), companyId, authzEpoch);
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setTokenHash(hash(rawRefreshToken));
+        refreshToken.setFamily(family);
+        refreshToken.setAccessJti(access.jti());
+        refreshToken.setAccessExpiresAt(LocalDateTime.ofInstant(access.expiresAt(), ZoneId.systemDefault()));
+        refreshToken.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000));
+        refreshTokenRepository.save(refreshToken);
+
+        return new Tokens(user, access.token(), rawRefreshToken);
+    }
+
+    private void revokeFamily(String family, LocalDateTime now) {
+        refreshTokenRepository.revokeFamily(family, now);
+        revokeAccessTokens(refreshTokenRepository.findWithLiveAccessByFamily(family, now));
+    }
+
+    private void revokeAccessTokens(List<RefreshToken> sessions) {
+        List<RevokedToken> revoked = sessions.stream()
+                .map(session -> new RevokedToken(session.getAccessJti(), session.getAccessExpiresAt()))
+                .toList();
+        revokedTokenRepository.saveAll(revoked);
+
+        List<String> jtis = revoked.stream().map(RevokedToken::getJti).toList();
+        AfterCommit.run(() -> revocationList.add(jtis));
+    }
+
+    private String accessTokenId(String accessToken) {
+        try {
+            return jwtService.parseClaims(accessToken).getId();
+        } catch (ExpiredJwtException e) {
+            Claims claims = e.getClaims();
+            return claims != null ? claims.getId() : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobs.jobboard.service;
 
+import com.jobs.jobboard.config.security.PasswordHasher;
 import com.jobs.jobboard.dto.request.CreateUserRequest;
 import com.jobs.jobboard.dto.response.UserResponse;
 import com.jobs.jobboard.entity.Role;
@@ -7,7 +8,6 @@ import com.jobs.jobboard.entity.User;
 import com.jobs.jobboard.exception.BusinessException;
 import com.jobs.jobboard.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,12 +18,14 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TokenService tokenService;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher, TokenService tokenService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.tokenService = tokenService;
     }
 
     @Transactional
@@ -35,7 +37,7 @@ public class UserService {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         
         if (request.getRole() != null && !request.getRole().isEmpty()) {
             try {
@@ -64,6 +66,11 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException("Usuário não encontrado com ID: " + id));
     }
 
+    public void revokeSessions(Long id) {
+        User user = findById(id);
+        tokenService.revokeAllForUser(user.getId());
+    }
+
     public List<UserResponse> getAllUsers() {
         return userRepository.findAllNotDeleted()
                 .stream()
@@ -0,0 +1,26 @@
+-- Reverts 010-identity-to-sequences.sql: gives the id columns their identity defaults back, continuing
+-- after the highest id the sequences handed out, and drops the sequences. Run once against Postgres
+-- before deploying with spring.jpa.mapping-resources=META-INF/identity-ids.xml (or a build from before
+-- the sequences); safe to re-run.
+
+DO $$
+DECLARE
+    t text;
+    next_id bigint;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'companies', 'job_vacancies', 'applications'] LOOP
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = current_schema() AND table_name = t
+                         AND column_name = 'id' AND is_identity = 'YES') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY', t);
+        END IF;
+
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) + 1 FROM %I', t) INTO next_id;
+        PERFORM setval(pg_get_serial_sequence(t, 'id'), next_id, false);
+    END LOOP;
+END $$;
+
+DROP SEQUENCE IF EXISTS users_seq;
+DROP SEQUENCE IF EXISTS companies_seq;
+DROP SEQUENCE IF EXISTS job_vacancies_seq;
+DROP SEQUENCE IF EXISTS applications_seq;
@@ -0,0 +1,21 @@
+-- Moves existing databases from IDENTITY columns to the per-table sequences the entities now use.
+-- Run once against Postgres before deploying; safe to re-run.
+-- INCREMENT BY must match each entity's @SequenceGenerator allocationSize.
+-- Reverted by 010-identity-to-sequences.down.sql.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 20;
+CREATE SEQUENCE IF NOT EXISTS companies_seq INCREMENT BY 10;
+CREATE SEQUENCE IF NOT EXISTS job_vacancies_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS applications_seq INCREMENT BY 50;
+
+-- Start each sequence past the highest id handed out by the identity column.
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 20 FROM users), false);
+SELECT setval('companies_seq', (SELECT COALESCE(MAX(id), 0) + 10 FROM companies), false);
+SELECT setval('job_vacancies_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM job_vacancies), false);
+SELECT setval('applications_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM applications), false);
+
+-- Ids are now assigned by Hibernate; the identity defaults are no longer used.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE companies ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE job_vacancies ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,27 @@
+-- Adds the per-job application counters maintained by ApplicationCounterService and backfills them.
+-- Run once against Postgres before deploying; safe to re-run.
+
+ALTER TABLE job_vacancies ADD COLUMN IF NOT EXISTS applications_total     INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_vacancies ADD COLUMN IF NOT EXISTS applications_pending   INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_vacancies ADD COLUMN IF NOT EXISTS applications_reviewing INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_vacancies ADD COLUMN IF NOT EXISTS applications_approved  INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_vacancies ADD COLUMN IF NOT EXISTS applications_rejected  INTEGER NOT NULL DEFAULT 0;
+
+UPDATE job_vacancies j SET
+    applications_total     = c.total,
+    applications_pending   = c.pending,
+    applications_reviewing = c.reviewing,
+    applications_approved  = c.approved,
+    applications_rejected  = c.rejected
+FROM (
+    SELECT job_vacancy_id,
+           COUNT(*)                                      AS total,
+           COUNT(*) FILTER (WHERE status = 'PENDING')    AS pending,
+           COUNT(*) FILTER (WHERE status = 'REVIEWING')  AS reviewing,
+           COUNT(*) FILTER (WHERE status = 'APPROVED')   AS approved,
+           COUNT(*) FILTER (WHERE status = 'REJECTED')   AS rejected
+    FROM applications
+    WHERE deleted_at IS NULL
+    GROUP BY job_vacancy_id
+) c
+WHERE j.id = c.job_vacancy_id;
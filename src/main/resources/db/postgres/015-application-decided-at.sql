@@ -0,0 +1,10 @@
+-- Adds applications.decided_at (time of approval or rejection) used by the recruiter dashboard.
+-- Run once against Postgres before deploying; safe to re-run.
+-- Existing decisions have no recorded time, so their last update is the best available estimate.
+
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS decided_at TIMESTAMP;
+
+UPDATE applications
+SET decided_at = updated_at
+WHERE decided_at IS NULL
+  AND status IN ('APPROVED', 'REJECTED');
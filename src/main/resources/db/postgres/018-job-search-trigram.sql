@@ -0,0 +1,20 @@
+-- Trigram indexes behind PostgresTrigramJobSearchIndex (jobboard.search.engine=postgres). Run by hand,
+-- outside a transaction (psql -f, no --single-transaction), before or after switching the engine on:
+-- searches fall back to JPQL until every index below exists and is valid, re-checked every
+-- jobboard.search.postgres.index-check-interval. Safe to re-run; a build that failed half-way leaves an
+-- INVALID index that must be dropped before re-running.
+-- Terms shorter than three characters cannot use a trigram index and still scan.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_vacancies_title_trgm
+    ON job_vacancies USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_vacancies_description_trgm
+    ON job_vacancies USING gin (lower(description) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_vacancies_location_trgm
+    ON job_vacancies USING gin (lower(location) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_companies_name_trgm
+    ON companies USING gin (lower(name) gin_trgm_ops);
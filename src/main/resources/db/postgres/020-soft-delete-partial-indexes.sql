@@ -0,0 +1,25 @@
+-- Turns the composite indexes declared on JobVacancy and Application into partial indexes over live rows
+-- (deleted_at IS NULL), the only rows the repositories read. Soft-deleted rows stop costing index space.
+-- Run once against Postgres after the first startup with ddl-auto=update has created the full indexes.
+-- Each index is rebuilt under a temporary name and swapped in, keeping the name Hibernate looks for so
+-- schema updates leave it alone. Re-running rebuilds the indexes again.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_vacancies_company_created_live
+    ON job_vacancies (company_id, created_at) WHERE deleted_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_job_vacancies_company_created;
+ALTER INDEX idx_job_vacancies_company_created_live RENAME TO idx_job_vacancies_company_created;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_vacancies_status_created_live
+    ON job_vacancies (status, created_at) WHERE deleted_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_job_vacancies_status_created;
+ALTER INDEX idx_job_vacancies_status_created_live RENAME TO idx_job_vacancies_status_created;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_job_status_created_live
+    ON applications (job_vacancy_id, status, created_at) WHERE deleted_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_applications_job_status_created;
+ALTER INDEX idx_applications_job_status_created_live RENAME TO idx_applications_job_status_created;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_candidate_created_live
+    ON applications (candidate_id, created_at) WHERE deleted_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_applications_candidate_created;
+ALTER INDEX idx_applications_candidate_created_live RENAME TO idx_applications_candidate_created;
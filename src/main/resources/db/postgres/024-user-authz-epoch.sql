@@ -0,0 +1,5 @@
+-- Adds users.authz_epoch, the version of a user's ownership claims (companyId) carried in access tokens.
+-- Run once against Postgres before deploying; safe to re-run.
+-- Tokens issued before this carry no company claim and keep resolving the company per request.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS authz_epoch BIGINT NOT NULL DEFAULT 0;
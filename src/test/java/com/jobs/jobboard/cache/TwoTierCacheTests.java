@@ -0,0 +1,171 @@
+package com.jobs.jobboard.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTests {
+
+    record Item(Long id, String name) {}
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadsOnceAndServesFromTheHeap() {
+        TwoTierCache<Long, Item> cache = cache(10, 0);
+
+        assertThat(cache.get(1L, this::load)).isEqualTo(new Item(1L, "item 1"));
+        assertThat(cache.get(1L, this::load)).isEqualTo(new Item(1L, "item 1"));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        TwoTierCache<Long, Item> cache = cache(10, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Item> first = executor.submit(() -> cache.get(1L, key -> {
+                loading.countDown();
+                await(release);
+                return load(key);
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Item> second = executor.submit(() -> cache.get(1L, this::load));
+            // another key is not held up by the load in flight
+            assertThat(cache.get(2L, this::load)).isEqualTo(new Item(2L, "item 2"));
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(new Item(1L, "item 1"));
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(new Item(1L, "item 1"));
+        }
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedLoadsAreRethrownAndNotCached() {
+        TwoTierCache<Long, Item> cache = cache(10, 0);
+
+        assertThatThrownBy(() -> cache.get(1L, key -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("not found");
+
+        assertThat(cache.get(1L, this::load)).isEqualTo(new Item(1L, "item 1"));
+    }
+
+    @Test
+    void entryInvalidatedWhileLoadingIsNotStored() throws Exception {
+        TwoTierCache<Long, Item> cache = cache(10, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Item> stale = executor.submit(() -> cache.get(1L, key -> {
+                loading.countDown();
+                await(release);
+                return new Item(key, "stale");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.invalidate(1L);
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS).name()).isEqualTo("stale");
+        }
+
+        assertThat(cache.get(1L, this::load).name()).isEqualTo("item 1");
+    }
+
+    @Test
+    void evictedEntriesMoveOffHeapAndBack() {
+        TwoTierCache<Long, Item> cache = cache(1, 1024 * 1024);
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        eventually(() -> heapEntries() == 1 && offHeapEntries() == 1);
+
+        // whichever of the two was evicted, both are still served without loading
+        assertThat(cache.get(1L, this::mustNotLoad)).isEqualTo(new Item(1L, "item 1"));
+        eventually(() -> heapEntries() == 1 && offHeapEntries() == 1);
+        assertThat(cache.get(2L, this::mustNotLoad)).isEqualTo(new Item(2L, "item 2"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(registry.get("jobboard.cache.offheap.gets").tag("result", "hit").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void invalidateIfCoversBothTiers() {
+        TwoTierCache<Long, Item> cache = cache(2, 1024 * 1024);
+
+        for (long id = 1; id <= 6; id++) {
+            cache.get(id, this::load);
+        }
+        eventually(() -> heapEntries() == 2 && offHeapEntries() == 4);
+
+        cache.invalidateIf(item -> item.id() % 2 == 0);
+        // four of six entries were off-heap, so at least one of them was even
+        assertThat(offHeapEntries()).isLessThan(4);
+
+        loads.set(0);
+        for (long id = 2; id <= 6; id += 2) {
+            cache.get(id, this::load);
+        }
+        assertThat(loads).hasValue(3);
+    }
+
+    private TwoTierCache<Long, Item> cache(long maxEntries, long offHeapBytes) {
+        return new TwoTierCache<>("test", Item.class, maxEntries, Duration.ofMinutes(1), offHeapBytes,
+                JsonMapper.builder().build(), registry);
+    }
+
+    private Item load(Long id) {
+        loads.incrementAndGet();
+        return new Item(id, "item " + id);
+    }
+
+    private Item mustNotLoad(Long id) {
+        throw new AssertionError("item " + id + " should have been cached");
+    }
+
+    private double heapEntries() {
+        return registry.get("cache.size").tag("cache", "test").gauge().value();
+    }
+
+    private double offHeapEntries() {
+        return registry.get("jobboard.cache.offheap.entries").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // heap evictions run on Caffeine's maintenance executor, and the spill to off-heap happens before
+    // the entry leaves the heap, so wait for both tiers to settle
+    private static void eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.jobs.jobboard.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedCacheTests {
+
+    private final VersionedCache<String, String> cache =
+            new VersionedCache<>("test", 10, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> cache.get("java", () -> {
+                loading.countDown();
+                await(release);
+                return load("page");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> second = executor.submit(() -> cache.get("java", () -> load("second page")));
+            // another key is not held up by the load in flight
+            assertThat(cache.get("kotlin", () -> load("other page"))).isEqualTo("other page");
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+        }
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void entriesCachedBeforeAdvanceAreNotServedAfterIt() {
+        assertThat(cache.get("java", () -> load("before"))).isEqualTo("before");
+        assertThat(cache.get("java", () -> load("unused"))).isEqualTo("before");
+
+        cache.advance();
+
+        assertThat(cache.get("java", () -> load("after"))).isEqualTo("after");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadInFlightDuringAdvanceIsNotServedAfterIt() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> stale = executor.submit(() -> cache.get("java", () -> {
+                loading.countDown();
+                await(release);
+                return load("stale");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.advance();
+            // a reader arriving after the advance does not join the older load
+            assertThat(cache.get("java", () -> load("fresh"))).isEqualTo("fresh");
+
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        }
+
+        assertThat(cache.get("java", () -> load("unused"))).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedLoadsAreRethrownAndNotCached() {
+        assertThatThrownBy(() -> cache.get("java", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+        assertThat(cache.get("java", () -> load("page"))).isEqualTo("page");
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
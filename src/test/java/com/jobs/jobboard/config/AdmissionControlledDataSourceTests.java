@@ -0,0 +1,54 @@
+package com.jobs.jobboard.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdmissionControlledDataSourceTests {
+
+    private final DataSource pool = mock(DataSource.class);
+    private final Connection pooled = mock(Connection.class);
+    private final AdmissionControlledDataSource dataSource =
+            new AdmissionControlledDataSource(pool, "test", 1, Duration.ofMillis(50));
+
+    @Test
+    void closeReturnsThePermitOnceAndReachesThePoolOnce() throws Exception {
+        when(pool.getConnection()).thenReturn(pooled);
+
+        Connection connection = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        connection.close();
+        connection.close();
+        assertThat(connection.isClosed()).isTrue();
+        verify(pooled, times(1)).close();
+
+        // exactly one permit came back: one caller gets in, the next one waits and gives up
+        Connection next = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        next.close();
+    }
+
+    @Test
+    void wrappersCompareByTheirOwnIdentity() throws Exception {
+        when(pool.getConnection()).thenReturn(pooled);
+
+        Connection first = dataSource.getConnection();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        assertThat(first).isEqualTo(first).isNotEqualTo(second).isNotEqualTo(pooled);
+        assertThat(first.hashCode()).isEqualTo(System.identityHashCode(first));
+        second.close();
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobs.jobboard.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "jobboard.search.index.enabled=false")
+@ActiveProfiles("dev")
+class IdSequenceCheckTests {
+
+    // far past anything the sequence hands out while the test suite runs
+    private static final long RESTORED_ID = 1_000_000;
+
+    @Autowired
+    private IdSequenceCheck check;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", RESTORED_ID);
+    }
+
+    @Test
+    void sequenceBehindItsTableFailsTheCheckUntilRepaired() {
+        check.afterSingletonsInstantiated();
+
+        // a row restored without its sequence value
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, authz_epoch, created_at) "
+                + "VALUES (?, 'Restored', 'restored@sequences.test', '{noop}unused', 'CANDIDATE', 0, ?)",
+                RESTORED_ID, LocalDateTime.now());
+
+        assertThatThrownBy(check::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("users_seq")
+                .hasMessageContaining("max(users.id) is " + RESTORED_ID)
+                .hasMessageNotContaining("companies_seq");
+
+        new IdSequenceCheck(jdbcTemplate, entityManagerFactory, true).afterSingletonsInstantiated();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'USERS_SEQ'", Long.class))
+                .isEqualTo(RESTORED_ID + 1);
+        check.afterSingletonsInstantiated();
+    }
+}
@@ -0,0 +1,221 @@
+package com.jobs.jobboard.config;
+
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import com.jobs.jobboard.service.CompanyService;
+import com.jobs.jobboard.service.JobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two in-memory H2 databases, the primary and a stand-in replica whose reported lag is
+ * read from a table, and checks which one each kind of transaction lands on.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "jobboard.datasource.replica.urls=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "jobboard.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "jobboard.datasource.replica.max-lag=PT10S",
+        "jobboard.datasource.replica.check-interval=PT1H",
+        "jobboard.search.index.enabled=false"
+})
+@ActiveProfiles("dev")
+class ReadReplicaRoutingTests {
+
+    private static final String PRIMARY = "ROUTING-PRIMARY";
+    private static final String REPLICA = "ROUTING-REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final JdbcTemplate replicaJdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @BeforeEach
+    void replicaInSync() {
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE)");
+        replicaJdbc.update("DELETE FROM replica_lag");
+        replicaJdbc.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        routing.checkReplicas();
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertThat(database(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readWriteTransactionsGoToPrimary() {
+        assertThat(database(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsStayOnPrimaryRightAfterTheUsersOwnWrite() {
+        signIn(101L);
+        assertThat(database(true)).isEqualTo(REPLICA);
+        database(false);
+        assertThat(database(true)).isEqualTo(PRIMARY);
+
+        signIn(102L);
+        assertThat(database(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 60");
+        routing.checkReplicas();
+        assertThat(database(true)).isEqualTo(PRIMARY);
+
+        replicaInSync();
+        assertThat(database(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void cacheFillsReadThePrimary() {
+        Seeded seeded = seedAndCopyToReplica();
+        try {
+            replicaJdbc.update("UPDATE companies SET name = ?", REPLICA);
+
+            List<JobResponse> found = jobService.searchJobs("routing", null, null, null, null,
+                    PageRequest.of(0, 10), CountMode.EXACT).getContent();
+            assertThat(found).extracting(response -> response.getCompany().getName()).containsExactly(PRIMARY);
+            assertThat(jobService.getJobById(seeded.job().getId()).getCompany().getName()).isEqualTo(PRIMARY);
+            assertThat(companyService.getCompanyById(seeded.company().getId()).getName()).isEqualTo(PRIMARY);
+
+            // uncached reads still go to the replica
+            assertThat(jobService.getAllJobs()).extracting(response -> response.getCompany().getName())
+                    .containsExactly(REPLICA);
+        } finally {
+            cleanUp();
+        }
+    }
+
+    @Test
+    void updatedJobIsNotCachedFromALaggingReplica() {
+        Seeded seeded = seedAndCopyToReplica();
+        try {
+            Long jobId = seeded.job().getId();
+            assertThat(jobService.getJobById(jobId).getTitle()).isEqualTo("Routing job");
+
+            // behind, but within max-lag, so it stays in rotation
+            replicaJdbc.update("UPDATE replica_lag SET seconds = 5");
+            routing.checkReplicas();
+
+            signIn(seeded.owner().getId(), Role.COMPANY, seeded.company().getId());
+            jobService.updateJob(jobId, "Updated routing job", null, null, null, null, null);
+
+            // another user, outside the owner's read-your-writes window
+            signIn(102L);
+            assertThat(jobService.getAllJobs()).extracting(JobResponse::getTitle).containsExactly("Routing job");
+            assertThat(jobService.getJobById(jobId).getTitle()).isEqualTo("Updated routing job");
+        } finally {
+            cleanUp();
+        }
+    }
+
+    private Seeded seedAndCopyToReplica() {
+        User owner = new User();
+        owner.setName("Routing owner");
+        owner.setEmail("owner@routing.test");
+        owner.setPassword("{noop}unused");
+        owner.setRole(Role.COMPANY);
+        owner = userRepository.save(owner);
+
+        Company company = new Company();
+        company.setName(PRIMARY);
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        JobVacancy job = new JobVacancy();
+        job.setTitle("Routing job");
+        job.setDescription("Description");
+        job.setLocation("Remote");
+        job.setCompany(company);
+        job = jobRepository.save(job);
+
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        for (String statement : jdbcTemplate.queryForList("SCRIPT", String.class)) {
+            replicaJdbc.execute(statement);
+        }
+        replicaInSync();
+
+        return new Seeded(owner, company, job);
+    }
+
+    private void cleanUp() {
+        // otherwise the signed-in reader would become a recent writer for the tests that follow
+        SecurityContextHolder.clearContext();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        replicaInSync();
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void signIn(Long userId) {
+        signIn(userId, Role.CANDIDATE, null);
+    }
+
+    private static void signIn(Long userId, Role role, Long companyId) {
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(userId, "user" + userId + "@routing.test", role, companyId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private record Seeded(User owner, Company company, JobVacancy job) {}
+}
@@ -0,0 +1,76 @@
+package com.jobs.jobboard.config.security;
+
+import com.jobs.jobboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTests {
+
+    @Test
+    void eachIpHasItsOwnBucket() {
+        LoginRateLimiter limiter = limiter(2, Duration.ofMinutes(1), 100, Duration.ofMinutes(5));
+
+        limiter.acquire("203.0.113.1", "a@limit.test");
+        limiter.acquire("203.0.113.1", "b@limit.test");
+        assertThatThrownBy(() -> limiter.acquire("203.0.113.1", "c@limit.test"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        assertThatCode(() -> limiter.acquire("203.0.113.2", "c@limit.test")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void emailBucketHoldsAcrossIpsAndIgnoresCase() {
+        LoginRateLimiter limiter = limiter(100, Duration.ofMinutes(1), 2, Duration.ofMinutes(5));
+
+        limiter.acquire("203.0.113.1", "victim@limit.test");
+        limiter.acquire("203.0.113.2", "Victim@Limit.test");
+        assertThatThrownBy(() -> limiter.acquire("203.0.113.3", "VICTIM@limit.test"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void refusalCarriesTheWaitUntilTheNextToken() {
+        LoginRateLimiter limiter = limiter(1, Duration.ofMinutes(1), 100, Duration.ofMinutes(5));
+        limiter.acquire("203.0.113.1", "a@limit.test");
+
+        assertThatThrownBy(() -> limiter.acquire("203.0.113.1", "a@limit.test"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(1L, 61L));
+    }
+
+    @Test
+    void tokensRefillOverThePeriod() throws InterruptedException {
+        LoginRateLimiter limiter = limiter(1, Duration.ofMillis(100), 100, Duration.ofMinutes(5));
+        limiter.acquire("203.0.113.1", "a@limit.test");
+        assertThatThrownBy(() -> limiter.acquire("203.0.113.1", "a@limit.test"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        Thread.sleep(150);
+        assertThatCode(() -> limiter.acquire("203.0.113.1", "a@limit.test")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void zeroCapacityTurnsALimitOffAndRefusalsAreCounted() {
+        LoginRateLimiter limiter = limiter(0, Duration.ofMinutes(1), 1, Duration.ofMinutes(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        limiter.acquire("203.0.113.1", "a@limit.test");
+        assertThatThrownBy(() -> limiter.acquire("203.0.113.1", "a@limit.test"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        assertThat(registry.get("jobboard.auth.login.throttled").tag("key", "ip").functionCounter().count()).isZero();
+        assertThat(registry.get("jobboard.auth.login.throttled").tag("key", "email").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private static LoginRateLimiter limiter(int ipCapacity, Duration ipRefill, int emailCapacity, Duration emailRefill) {
+        return new LoginRateLimiter(ipCapacity, ipRefill, emailCapacity, emailRefill);
+    }
+}
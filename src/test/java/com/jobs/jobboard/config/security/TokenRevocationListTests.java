@@ -0,0 +1,68 @@
+package com.jobs.jobboard.config.security;
+
+import com.jobs.jobboard.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTests {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationList list = new TokenRevocationList(repository, Duration.ofMinutes(1));
+
+    @Test
+    void tokensOutsideTheFilterAreNeverLookedUp() {
+        assertThat(list.isRevoked("never-revoked")).isFalse();
+        assertThat(list.isRevoked(null)).isFalse();
+        verify(repository, never()).existsById(anyString());
+    }
+
+    @Test
+    void filterHitsAreConfirmedOnceUntilTheNextRebuild() {
+        when(repository.existsById("revoked")).thenReturn(true);
+        list.add(List.of("revoked"));
+
+        assertThat(list.isRevoked("revoked")).isTrue();
+        assertThat(list.isRevoked("revoked")).isTrue();
+        verify(repository, times(1)).existsById("revoked");
+    }
+
+    @Test
+    void revocationAddedWhileTheTableIsReadSurvivesTheRebuild() {
+        when(repository.existsById(anyString())).thenReturn(true);
+        when(repository.findUnexpiredJtis(any())).thenAnswer(invocation -> {
+            // committed after the query's snapshot, so the rows it returns do not include it
+            list.add(List.of("late"));
+            return List.of("early");
+        });
+
+        list.rebuild();
+
+        assertThat(list.isRevoked("early")).isTrue();
+        assertThat(list.isRevoked("late")).isTrue();
+    }
+
+    @Test
+    void aLocalRevocationIsCarriedUntilARebuildHasReadIt() {
+        when(repository.existsById(anyString())).thenReturn(true);
+        list.add(List.of("local"));
+
+        // the table is empty here (the row was purged), yet the first rebuild may have raced the add
+        when(repository.findUnexpiredJtis(any())).thenReturn(List.of());
+        list.rebuild();
+        assertThat(list.isRevoked("local")).isTrue();
+
+        list.rebuild();
+        assertThat(list.isRevoked("local")).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobs.jobboard.controller;
+
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.RefreshTokenRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logs in over HTTP on a real Tomcat, so the forwarded-header handling in front of the rate limiter
+ * is the one production runs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jobboard.search.index.enabled=false",
+        "jobboard.security.login.ip.capacity=2",
+        "jobboard.security.login.email.capacity=100"
+})
+@ActiveProfiles("dev")
+class AuthControllerTests {
+
+    private static final String PASSWORD = "Senha@123";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void clientsBehindTheProxyAreLimitedByTheirOwnAddress() throws Exception {
+        // the test client connects from loopback, one of the trusted proxies
+        assertThat(login("nobody@auth.test", PASSWORD, "198.51.100.1")).isEqualTo(401);
+        assertThat(login("nobody@auth.test", PASSWORD, "198.51.100.1")).isEqualTo(401);
+        assertThat(login("nobody@auth.test", PASSWORD, "198.51.100.1")).isEqualTo(429);
+
+        assertThat(login("nobody@auth.test", PASSWORD, "198.51.100.2")).isEqualTo(401);
+    }
+
+    @Test
+    void weakerHashIsUpgradedOnSuccessfulLogin() throws Exception {
+        User user = user("weak@auth.test", "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        assertThat(login(user.getEmail(), PASSWORD, "198.51.100.10")).isEqualTo(200);
+        String upgraded = storedHash(user);
+        assertThat(upgraded).startsWith("{bcrypt}$2a$10$");
+
+        assertThat(login(user.getEmail(), PASSWORD, "198.51.100.10")).isEqualTo(200);
+        assertThat(storedHash(user)).isEqualTo(upgraded);
+    }
+
+    @Test
+    void legacyUnprefixedHashIsUpgradedButAWrongPasswordChangesNothing() throws Exception {
+        String legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = user("legacy@auth.test", legacy);
+
+        assertThat(login(user.getEmail(), "Errada@123", "198.51.100.20")).isEqualTo(401);
+        assertThat(storedHash(user)).isEqualTo(legacy);
+
+        assertThat(login(user.getEmail(), PASSWORD, "198.51.100.21")).isEqualTo(200);
+        assertThat(storedHash(user)).startsWith("{bcrypt}$2a$10$");
+    }
+
+    private int login(String email, String password, String forwardedFor) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private User user(String email, String hash) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword(hash);
+        user.setRole(Role.CANDIDATE);
+        return userRepository.save(user);
+    }
+
+    private String storedHash(User user) {
+        return userRepository.findById(user.getId()).orElseThrow().getPassword();
+    }
+}
@@ -0,0 +1,199 @@
+package com.jobs.jobboard.controller;
+
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.entity.Application;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.ApplicationRepository;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/applications/batch end to end: every item is answered on its own, whatever happened to
+ * the others, and a duplicate inserted concurrently is reported instead of failing the request.
+ */
+@SpringBootTest(properties = "jobboard.search.index.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class BatchApplicationTests {
+
+    private static final String ALREADY_APPLIED = "Você já se candidatou a esta vaga";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @MockitoSpyBean
+    private ApplicationRepository applicationRepository;
+
+    private User candidate;
+    private JobVacancy open;
+    private JobVacancy otherOpen;
+    private JobVacancy closed;
+
+    @BeforeEach
+    void seed() {
+        User owner = userRepository.save(user("owner@batch.test", Role.COMPANY));
+        Company company = new Company();
+        company.setName("Batch Co");
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        candidate = userRepository.save(user("candidate@batch.test", Role.CANDIDATE));
+        open = jobRepository.save(job("Aberta", JobStatus.OPEN, company));
+        otherOpen = jobRepository.save(job("Também aberta", JobStatus.OPEN, company));
+        closed = jobRepository.save(job("Encerrada", JobStatus.CLOSED, company));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void jobsAlreadyAppliedToAreReportedAndTheRestCreated() throws Exception {
+        existingApplication(open);
+
+        apply(open.getId(), otherOpen.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[*].created", contains(false, true)))
+                .andExpect(jsonPath("$.results[0].error").value(ALREADY_APPLIED));
+
+        assertThat(applicationRepository.findAppliedJobIds(candidate.getId(), List.of(open.getId(), otherOpen.getId())))
+                .containsExactlyInAnyOrder(open.getId(), otherOpen.getId());
+        assertThat(jobRepository.findApplicationCountsById(otherOpen.getId()).orElseThrow().getTotal()).isOne();
+    }
+
+    @Test
+    void closedAndMissingJobsAreRejected() throws Exception {
+        apply(closed.getId(), -1L, open.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[*].created", contains(false, false, true)))
+                .andExpect(jsonPath("$.results[0].error").value("Não é possível se candidatar a uma vaga closed"))
+                .andExpect(jsonPath("$.results[1].error").value("Vaga não encontrada"));
+
+        assertThat(jobRepository.findApplicationCountsById(closed.getId()).orElseThrow().getTotal()).isZero();
+    }
+
+    @Test
+    void aJobRepeatedInTheRequestIsAppliedToOnce() throws Exception {
+        apply(open.getId(), open.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[*].created", contains(true, false)))
+                .andExpect(jsonPath("$.results[1].error").value(ALREADY_APPLIED));
+
+        assertThat(applicationRepository.count()).isOne();
+        assertThat(jobRepository.findApplicationCountsById(open.getId()).orElseThrow().getTotal()).isOne();
+    }
+
+    @Test
+    void moreThanOneHundredItemsAreRefused() throws Exception {
+        apply(LongStream.rangeClosed(1, 101).boxed().toArray(Long[]::new))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.applications").value("Máximo de 100 candidaturas por lote"));
+
+        assertThat(applicationRepository.count()).isZero();
+    }
+
+    @Test
+    void duplicateInsertedConcurrentlyIsReportedAsAlreadyApplied() throws Exception {
+        existingApplication(open);
+        // the first check misses it, as if the other request committed right after it ran
+        doReturn(Collections.emptySet())
+                .doAnswer(mockingDetails(applicationRepository).getMockCreationSettings().getDefaultAnswer())
+                .when(applicationRepository).findAppliedJobIds(anyLong(), any());
+
+        apply(open.getId(), otherOpen.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[*].created", contains(false, true)))
+                .andExpect(jsonPath("$.results[0].error").value(ALREADY_APPLIED));
+
+        // the failed attempt was rolled back, counters included
+        assertThat(applicationRepository.count()).isEqualTo(2);
+        assertThat(jobRepository.findApplicationCountsById(open.getId()).orElseThrow().getTotal()).isZero();
+        assertThat(jobRepository.findApplicationCountsById(otherOpen.getId()).orElseThrow().getTotal()).isOne();
+    }
+
+    private ResultActions apply(Long... jobIds) throws Exception {
+        String items = LongStream.range(0, jobIds.length)
+                .mapToObj(i -> "{\"jobId\":" + jobIds[(int) i] + "}")
+                .collect(Collectors.joining(","));
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(candidate.getId(), candidate.getEmail(), Role.CANDIDATE);
+        return mockMvc.perform(post("/api/applications/batch")
+                .with(authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"applications\":[" + items + "]}"));
+    }
+
+    // inserted without the service, so the job's counters do not include it
+    private void existingApplication(JobVacancy job) {
+        Application application = new Application();
+        application.setCandidate(candidate);
+        application.setJobVacancy(job);
+        applicationRepository.save(application);
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(role);
+        return user;
+    }
+
+    private static JobVacancy job(String title, JobStatus status, Company company) {
+        JobVacancy job = new JobVacancy();
+        job.setTitle(title);
+        job.setDescription("Descrição");
+        job.setLocation("Remoto");
+        job.setStatus(status);
+        job.setCompany(company);
+        return job;
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobs.jobboard.controller;
+
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The NDJSON variants of the listing endpoints, chosen by {@code Accept: application/x-ndjson}.
+ */
+@SpringBootTest(properties = "jobboard.search.index.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class JobExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void seed() {
+        User owner = new User();
+        owner.setName("Export owner");
+        owner.setEmail("owner@export.test");
+        owner.setPassword("{noop}unused");
+        owner.setRole(Role.COMPANY);
+        owner = userRepository.save(owner);
+
+        Company company = new Company();
+        company.setName("Export Co");
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        for (int i = 0; i < 3; i++) {
+            JobVacancy job = new JobVacancy();
+            job.setTitle("Exportada " + i);
+            job.setLocation("Remoto");
+            job.setStatus(i == 0 ? JobStatus.CLOSED : JobStatus.OPEN);
+            job.setCompany(company);
+            if (i == 2) job.setDeletedAt(LocalDateTime.now());
+            jobRepository.save(job);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void allJobsStreamAsNdjson() throws Exception {
+        List<JsonNode> lines = export("/api/jobs/all");
+
+        assertThat(lines).extracting(line -> line.path("title").asString())
+                .containsExactlyInAnyOrder("Exportada 0", "Exportada 1");
+        assertThat(lines).allSatisfy(line -> assertThat(line.path("company").path("name").asString()).isEqualTo("Export Co"));
+    }
+
+    @Test
+    void statusExportFiltersAndPlainJsonIsStillTheDefault() throws Exception {
+        assertThat(export("/api/jobs/status/CLOSED")).extracting(line -> line.path("title").asString())
+                .containsExactly("Exportada 0");
+
+        mockMvc.perform(get("/api/jobs/status/CLOSED"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private List<JsonNode> export(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        return body.lines().map(objectMapper::readTree).toList();
+    }
+}
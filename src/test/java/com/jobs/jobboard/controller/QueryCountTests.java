@@ -0,0 +1,243 @@
+package com.jobs.jobboard.controller;
+
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.entity.*;
+import com.jobs.jobboard.repository.ApplicationRepository;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of JDBC statements each listing endpoint issues, so a lazy association touched
+ * while mapping responses shows up as a failing count instead of one extra query per row.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jobboard.search.index.enabled=false",
+        "jobboard.cache.search.max-page=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class QueryCountTests {
+
+    private static final int COMPANIES = 3;
+    private static final int JOBS_PER_COMPANY = 4;
+    private static final int CANDIDATES = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private final List<User> companyUsers = new ArrayList<>();
+    private final List<Company> companies = new ArrayList<>();
+    private final List<User> candidates = new ArrayList<>();
+    private final List<JobVacancy> jobs = new ArrayList<>();
+    private final List<Application> applications = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int c = 0; c < COMPANIES; c++) {
+            User owner = userRepository.save(user("owner" + c + "@querycount.test", Role.COMPANY));
+            companyUsers.add(owner);
+
+            Company company = new Company();
+            company.setName("Company " + c);
+            company.setUser(owner);
+            company = companyRepository.save(company);
+            companies.add(company);
+
+            for (int j = 0; j < JOBS_PER_COMPANY; j++) {
+                JobVacancy job = new JobVacancy();
+                job.setTitle("Job " + c + "-" + j);
+                job.setDescription("Description");
+                job.setLocation("Remote");
+                job.setCompany(company);
+                jobs.add(jobRepository.save(job));
+            }
+        }
+
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(userRepository.save(user("candidate" + i + "@querycount.test", Role.CANDIDATE)));
+        }
+
+        for (JobVacancy job : jobs) {
+            for (User candidate : candidates) {
+                Application application = new Application();
+                application.setCandidate(candidate);
+                application.setJobVacancy(job);
+                applications.add(applicationRepository.save(application));
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void listAllJobs() throws Exception {
+        assertStatements(1, get("/api/jobs/all"));
+    }
+
+    @Test
+    void listJobsByStatus() throws Exception {
+        assertStatements(1, get("/api/jobs/status/OPEN"));
+    }
+
+    @Test
+    void searchJobs() throws Exception {
+        assertStatements(2, get("/api/jobs").param("size", "5"));
+    }
+
+    @Test
+    void searchJobsCapped() throws Exception {
+        assertStatements(2, get("/api/jobs").param("size", "5").param("count", "CAPPED"));
+    }
+
+    @Test
+    void searchJobsCappedLastPageSkipsCount() throws Exception {
+        assertStatements(1, get("/api/jobs").param("size", "50").param("count", "CAPPED"));
+    }
+
+    @Test
+    void listJobsByCursor() throws Exception {
+        assertStatements(1, get("/api/jobs").param("pagination", "cursor").param("size", "5"));
+    }
+
+    @Test
+    void listCompanyJobs() throws Exception {
+        User owner = companyUsers.get(0);
+        assertStatements(3, get("/api/jobs/my-jobs").param("size", "2").with(as(owner)));
+    }
+
+    @Test
+    void listCompanyJobsWithCompanyClaim() throws Exception {
+        User owner = companyUsers.get(0);
+        assertStatements(2, get("/api/jobs/my-jobs").param("size", "2").with(as(owner, companies.get(0).getId())));
+    }
+
+    @Test
+    void getJobById() throws Exception {
+        assertStatements(1, get("/api/jobs/" + jobs.get(0).getId()));
+    }
+
+    @Test
+    void getJobByIdNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/jobs/" + jobs.get(0).getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // answered from the cached response, validators included
+        assertStatements(0, status().isNotModified(),
+                get("/api/jobs/" + jobs.get(0).getId()).header("If-None-Match", eTag));
+    }
+
+    @Test
+    void getCompanyByIdNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/companies/" + companies.get(0).getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertStatements(0, status().isNotModified(),
+                get("/api/companies/" + companies.get(0).getId()).header("If-None-Match", eTag));
+    }
+
+    @Test
+    void listMyApplications() throws Exception {
+        assertStatements(1, get("/api/applications/my-applications").with(as(candidates.get(0))));
+    }
+
+    @Test
+    void listApplicationsByJob() throws Exception {
+        JobVacancy job = jobs.get(0);
+        User owner = companyUsers.get(0);
+        assertStatements(3, get("/api/applications/job/" + job.getId()).param("size", "2").with(as(owner)));
+    }
+
+    @Test
+    void getApplicationById() throws Exception {
+        Application application = applications.get(0);
+        // the version query's ownership is reused by the load
+        assertStatements(2, get("/api/applications/" + application.getId()).with(as(candidates.get(0))));
+    }
+
+    @Test
+    void getApplicationByIdNotModified() throws Exception {
+        Application application = applications.get(0);
+        String eTag = mockMvc.perform(get("/api/applications/" + application.getId()).with(as(candidates.get(0))))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertStatements(1, status().isNotModified(), get("/api/applications/" + application.getId())
+                .with(as(candidates.get(0))).header("If-None-Match", eTag));
+    }
+
+    private void assertStatements(long expected, RequestBuilder request) throws Exception {
+        assertStatements(expected, status().isOk(), request);
+    }
+
+    private void assertStatements(long expected, ResultMatcher status, RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+
+    private static RequestPostProcessor as(User user) {
+        return as(user, null);
+    }
+
+    private static RequestPostProcessor as(User user, Long companyId) {
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getRole(), companyId);
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobs.jobboard.entity;
+
+import com.jobs.jobboard.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks which id generator the migrated entities end up with, by default and with the IDENTITY
+ * mapping file switched on.
+ */
+class IdStrategyTests {
+
+    private static final List<Class<?>> MIGRATED = List.of(User.class, Company.class, JobVacancy.class, Application.class);
+
+    @Nested
+    @SpringBootTest(properties = "jobboard.search.index.enabled=false")
+    @ActiveProfiles("dev")
+    class Sequences {
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Test
+        void idsComeFromPooledSequences() {
+            for (Class<?> entity : MIGRATED) {
+                Generator generator = generator(entityManagerFactory, entity);
+                assertThat(generator).as(entity.getSimpleName()).isInstanceOf(SequenceStyleGenerator.class);
+                assertThat(generator.generatedOnExecution()).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "jobboard.search.index.enabled=false",
+            "spring.jpa.mapping-resources=META-INF/identity-ids.xml"
+    })
+    @ActiveProfiles("dev")
+    class Identity {
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Test
+        void mappingFileSwitchesBackToIdentityColumns() {
+            for (Class<?> entity : MIGRATED) {
+                assertThat(generator(entityManagerFactory, entity).generatedOnExecution())
+                        .as(entity.getSimpleName()).isTrue();
+            }
+
+            User user = new User();
+            user.setName("Identity user");
+            user.setEmail("user@identity.test");
+            user.setPassword("{noop}unused");
+            user.setRole(Role.CANDIDATE);
+            assertThat(userRepository.save(user).getId()).isNotNull();
+            userRepository.deleteAllInBatch();
+        }
+    }
+
+    private static Generator generator(EntityManagerFactory entityManagerFactory, Class<?> entity) {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entity)
+                .getGenerator();
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobs.jobboard.repository;
+
+import com.jobs.jobboard.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * The {@link QueryPlanTests} checks on Postgres 16, with the partial indexes of
+ * {@code db/postgres/020-soft-delete-partial-indexes.sql} in place, as production runs them.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@Import(QueryPlanTests.RecorderConfig.class)
+class PostgresQueryPlanTests extends QueryPlanTests {
+
+    @Container
+    static final PostgreSQLContainer postgres = PostgresTestDatabase.container();
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, postgres);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // runs after the seeding in QueryPlanTests; the script builds concurrently, so outside a transaction
+    @BeforeEach
+    void usePartialIndexes() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/postgres/020-soft-delete-partial-indexes.sql"))
+                .execute(dataSource);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
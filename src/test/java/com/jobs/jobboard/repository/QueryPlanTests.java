@@ -0,0 +1,273 @@
+package com.jobs.jobboard.repository;
+
+import com.jobs.jobboard.entity.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explains every statement the selective repository queries issue against a seeded dataset and fails
+ * when any table in a plan is read by a full scan, so a query shape that drifts away from the declared
+ * indexes is caught here rather than in production.
+ *
+ * <p>Listing-everything queries ({@code findAll*}, {@code streamNotDeleted}, the text search and the
+ * counter reconciliation) are left out: they read the whole table by design. This class runs on H2,
+ * whose plans only show whether an index is used at all; {@link PostgresQueryPlanTests} repeats the
+ * checks with generic plans on Postgres 16 and needs Docker, so it is skipped where Docker is missing.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans",
+        "jobboard.search.index.enabled=false"
+})
+@ActiveProfiles("dev")
+class QueryPlanTests {
+
+    private static final int COMPANIES = 20;
+    private static final int JOBS_PER_COMPANY = 10;
+    private static final int CANDIDATES = 40;
+    private static final int APPLICATIONS_PER_CANDIDATE = 10;
+
+    // H2 prints "/* PUBLIC.T.tableScan */", or an index name without a condition when it walks a whole index
+    private static final Pattern H2_SCAN = Pattern.compile("/\\* [\\w.\"]+(\\.tableScan)? \\*/");
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobImportRepository jobImportRepository;
+
+    @Autowired
+    private JobImportErrorRepository jobImportErrorRepository;
+
+    private boolean postgres;
+    private User owner;
+    private User candidate;
+    private Company company;
+    private JobVacancy job;
+    private Application application;
+    private JobImport jobImport;
+
+    @BeforeEach
+    void seed() {
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+
+        List<JobVacancy> jobs = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            User user = userRepository.save(user("owner" + c + "@queryplan.test", Role.COMPANY));
+
+            Company saved = new Company();
+            saved.setName("Company " + c);
+            saved.setUser(user);
+            saved = companyRepository.save(saved);
+
+            List<JobVacancy> companyJobs = new ArrayList<>();
+            for (int j = 0; j < JOBS_PER_COMPANY; j++) {
+                JobVacancy vacancy = new JobVacancy();
+                vacancy.setTitle("Job " + c + "-" + j);
+                vacancy.setDescription("Description");
+                vacancy.setLocation("Remote");
+                vacancy.setStatus(j % 3 == 0 ? JobStatus.CLOSED : JobStatus.OPEN);
+                vacancy.setCompany(saved);
+                if (j % 5 == 4) vacancy.setDeletedAt(LocalDateTime.now());
+                companyJobs.add(vacancy);
+            }
+            jobs.addAll(jobRepository.saveAll(companyJobs));
+
+            if (c == 0) {
+                owner = user;
+                company = saved;
+            }
+        }
+
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < CANDIDATES; i++) {
+            User user = userRepository.save(user("candidate" + i + "@queryplan.test", Role.CANDIDATE));
+            if (i == 0) candidate = user;
+
+            for (int a = 0; a < APPLICATIONS_PER_CANDIDATE; a++) {
+                Application saved = new Application();
+                saved.setCandidate(user);
+                saved.setJobVacancy(jobs.get((i * 7 + a * 13) % jobs.size()));
+                saved.setStatus(ApplicationStatus.values()[a % ApplicationStatus.values().length]);
+                if (a % 4 == 3) saved.setDeletedAt(LocalDateTime.now());
+                applications.add(saved);
+            }
+        }
+        applications = applicationRepository.saveAll(applications);
+
+        job = jobs.get(0);
+        application = applications.get(0);
+
+        List<JobImportError> importErrors = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            JobImport saved = new JobImport();
+            saved.setCompany(c == 0 ? company : jobs.get(c * JOBS_PER_COMPANY).getCompany());
+            saved.setFormat(JobImportFormat.CSV);
+            saved.setStatus(c == 0 ? JobImportStatus.RUNNING : JobImportStatus.COMPLETED);
+            saved.setSpoolFile("import-" + c + ".csv");
+            saved = jobImportRepository.save(saved);
+            if (c == 0) jobImport = saved;
+
+            for (int line = 2; line < 12; line++) {
+                importErrors.add(new JobImportError(saved, line, "title: Título é obrigatório"));
+            }
+        }
+        jobImportErrorRepository.saveAll(importErrors);
+
+        jdbcTemplate.execute("ANALYZE");
+        recorder.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobImportErrorRepository.deleteAllInBatch();
+        jobImportRepository.deleteAllInBatch();
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void selectiveQueriesUseIndexes() {
+        PageRequest newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        userRepository.findByEmail(candidate.getEmail());
+        userRepository.existsByEmail(candidate.getEmail());
+        userRepository.findByIdAndNotDeleted(candidate.getId());
+        userRepository.findAuthzEpochById(candidate.getId());
+
+        companyRepository.findByIdAndNotDeleted(company.getId());
+        companyRepository.findByUserIdAndNotDeleted(owner.getId());
+        companyRepository.findIdByUserIdAndNotDeleted(owner.getId());
+        companyRepository.findOwnerUserIdById(company.getId());
+
+        jobRepository.findByIdAndNotDeleted(job.getId());
+        jobRepository.findAllByIdInWithCompany(List.of(job.getId()));
+        jobRepository.findByStatusAndNotDeleted(JobStatus.CLOSED);
+        jobRepository.findByCompanyIdAndNotDeleted(company.getId());
+        jobRepository.findByCompanyIdAndNotDeleted(company.getId(), newestFirst);
+        jobRepository.findSliceByCompanyIdAndNotDeleted(company.getId(), newestFirst);
+        jobRepository.countByCompanyIdUpTo(company.getId(), 100);
+        jobRepository.findByCompanyIdAfter(company.getId(), LocalDateTime.now(), Long.MAX_VALUE, Limit.of(10));
+        jobRepository.findByIdAndCompanyUserIdAndNotDeleted(job.getId(), owner.getId());
+        jobRepository.findOwnerUserIdById(job.getId());
+        jobRepository.findApplicationCountsById(job.getId());
+
+        applicationRepository.findByIdAndNotDeleted(application.getId());
+        applicationRepository.findOwnershipById(application.getId());
+        applicationRepository.findVersionById(application.getId());
+        applicationRepository.findByCandidateIdAndJobIdAndNotDeleted(candidate.getId(), job.getId());
+        applicationRepository.findAppliedJobIds(candidate.getId(), List.of(job.getId()));
+        applicationRepository.findByCandidateIdAndNotDeleted(candidate.getId());
+        applicationRepository.findByJobIdAndNotDeleted(job.getId());
+        applicationRepository.findByCompanyIdAndNotDeleted(company.getId());
+        applicationRepository.aggregateByCompanyId(company.getId(), LocalDateTime.now().minusDays(30));
+        applicationRepository.findByJobIdAndStatusAndNotDeleted(job.getId(), ApplicationStatus.PENDING, newestFirst);
+        applicationRepository.findSliceByJobIdAndStatusAndNotDeleted(job.getId(), ApplicationStatus.PENDING, newestFirst);
+        applicationRepository.countByJobIdAndStatusUpTo(job.getId(), ApplicationStatus.PENDING, 100);
+
+        jobImportRepository.findByIdAndCompanyId(jobImport.getId(), company.getId());
+        jobImportRepository.findIdsByStatusIn(List.of(JobImportStatus.PENDING, JobImportStatus.RUNNING));
+        jobImportErrorRepository.findByImportIdAfter(jobImport.getId(), 0, Limit.of(100));
+
+        Map<String, String> scans = new LinkedHashMap<>();
+        for (String sql : recorder.selects()) {
+            String plan = explain(sql);
+            if (scans(plan)) scans.put(sql, plan);
+        }
+
+        assertThat(recorder.selects()).isNotEmpty();
+        assertThat(scans).as("statements with a full scan in their plan").isEmpty();
+    }
+
+    private String explain(String sql) {
+        String explain = (postgres ? "EXPLAIN (GENERIC_PLAN) " : "EXPLAIN ") + sql;
+        return jdbcTemplate.query(connection -> connection.prepareStatement(explain), rs -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) plan.append(rs.getString(1)).append('\n');
+            return plan.toString();
+        });
+    }
+
+    private boolean scans(String plan) {
+        return postgres ? plan.contains("Seq Scan") : H2_SCAN.matcher(plan).find();
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(role);
+        return user;
+    }
+
+    static class StatementRecorder implements StatementInspector {
+
+        private final Set<String> selects = Collections.synchronizedSet(new LinkedHashSet<>());
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, 6)) selects.add(sql);
+            return sql;
+        }
+
+        Set<String> selects() {
+            return selects;
+        }
+
+        void clear() {
+            selects.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder recorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exercises ranking and matching of the in-memory index without a database: the rebuild reads its
+ * documents from a stubbed repository.
+ */
+class InMemoryJobSearchIndexTests {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final InMemoryJobSearchIndex index =
+            new InMemoryJobSearchIndex(jobRepository, mock(PlatformTransactionManager.class), true);
+
+    private final Company acme = company(1L, "Acme Tecnologia");
+    private final Company globex = company(2L, "Globex Java Labs");
+    private final Company initech = company(3L, "Initech");
+
+    @BeforeEach
+    void build() {
+        when(jobRepository.findAllNotDeletedWithCompany()).thenReturn(List.of(
+                job(1L, "Desenvolvedor Java", "Backend com Spring", "Remoto", acme),
+                job(2L, "Analista de Dados", "SQL e um pouco de Java", "Recife", acme),
+                job(3L, "Designer", "Interfaces", "Curitiba", globex),
+                job(4L, "Engenheiro de Produção", "Chão de fábrica", "São Paulo", acme),
+                job(5L, "Suporte 100% remoto", "Atendimento", "Remoto", initech)
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    void relevanceRanksBestMatchFirstWhateverTheDirection() {
+        // title (3.0) beats company name (2.0), which beats description (1.0)
+        List<Long> expected = List.of(1L, 3L, 2L);
+
+        assertThat(ids("java", PageRequest.of(0, 10, Sort.by(JobSearchIndex.RELEVANCE)))).isEqualTo(expected);
+        assertThat(ids("java", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, JobSearchIndex.RELEVANCE))))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void relevanceTiesFallBackToNewestFirst() {
+        assertThat(ids("acme", PageRequest.of(0, 10, Sort.by(JobSearchIndex.RELEVANCE))))
+                .containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    void otherSortsHonourTheirDirection() {
+        assertThat(ids("java", PageRequest.of(0, 10, Sort.by("id")))).containsExactly(1L, 2L, 3L);
+        assertThat(ids("java", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void textMatchesAsACaseInsensitiveSubstringLikeTheDatabase() {
+        assertThat(ids("SÃO PAULO", PageRequest.of(0, 10))).containsExactly(4L);
+        assertThat(ids("chão de fáb", PageRequest.of(0, 10))).containsExactly(4L);
+        assertThat(ids("senvolv", PageRequest.of(0, 10))).containsExactly(1L);
+        assertThat(ids("pouco de java", PageRequest.of(0, 10))).containsExactly(2L);
+        // LOWER() keeps accents, so neither engine folds them
+        assertThat(ids("producao", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void theWholeTextMustMatchOneField() {
+        assertThat(ids("java recife", PageRequest.of(0, 10))).isEmpty();
+        assertThat(ids("chao fabr", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void likeWildcardsAreLiteral() {
+        assertThat(ids("100%", PageRequest.of(0, 10))).containsExactly(5L);
+        assertThat(ids("%", PageRequest.of(0, 10))).containsExactly(5L);
+        assertThat(ids("0%r", PageRequest.of(0, 10))).isEmpty();
+        assertThat(ids("_", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void pagesAreSlicesOfTheFullOrderWithTheFullTotal() {
+        JobSearchQuery everything = new JobSearchQuery(null, null, null, null, null);
+        Sort byId = Sort.by("id");
+
+        assertThat(index.search(everything, PageRequest.of(0, 2, byId), CountMode.EXACT).orElseThrow())
+                .isEqualTo(new JobSearchResult(List.of(1L, 2L), 5));
+        assertThat(index.search(everything, PageRequest.of(1, 2, byId), CountMode.EXACT).orElseThrow())
+                .isEqualTo(new JobSearchResult(List.of(3L, 4L), 5));
+        assertThat(index.search(everything, PageRequest.of(2, 2, byId), CountMode.EXACT).orElseThrow())
+                .isEqualTo(new JobSearchResult(List.of(5L), 5));
+        assertThat(index.search(everything, PageRequest.of(3, 2, byId), CountMode.EXACT).orElseThrow())
+                .isEqualTo(new JobSearchResult(List.of(), 5));
+        assertThat(index.search(everything, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")), CountMode.EXACT)
+                .orElseThrow().ids()).containsExactly(5L, 4L, 3L);
+    }
+
+    private List<Long> ids(String keyword, Pageable pageable) {
+        JobSearchQuery query = new JobSearchQuery(keyword, null, null, null, null);
+        return index.search(query, pageable, CountMode.EXACT).orElseThrow().ids();
+    }
+
+    private static Company company(Long id, String name) {
+        Company company = new Company();
+        company.setId(id);
+        company.setName(name);
+        return company;
+    }
+
+    private static JobVacancy job(Long id, String title, String description, String location, Company company) {
+        JobVacancy job = new JobVacancy();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation(location);
+        job.setStatus(JobStatus.OPEN);
+        job.setCompany(company);
+        job.setCreatedAt(LocalDateTime.of(2024, 1, id.intValue(), 9, 0));
+        return job;
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.entity.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchKeyTests {
+
+    private static final Pageable NEWEST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Test
+    void textFiltersShareAnEntryWhateverTheirCase() {
+        assertThat(key("Java", "Dev", 1L, "ACME", JobStatus.OPEN, NEWEST))
+                .isEqualTo(key("java", "dev", 1L, "acme", JobStatus.OPEN, NEWEST));
+    }
+
+    @Test
+    void otherFiltersAndThePageKeepTheirOwnEntries() {
+        JobSearchKey base = key("java", null, null, null, null, NEWEST);
+
+        assertThat(key("java", null, 1L, null, null, NEWEST)).isNotEqualTo(base);
+        assertThat(key("java", null, null, null, JobStatus.OPEN, NEWEST)).isNotEqualTo(base);
+        assertThat(key("java", null, null, null, null, NEWEST.next())).isNotEqualTo(base);
+        assertThat(key("java", null, null, null, null, PageRequest.of(0, 10, NEWEST.getSort()))).isNotEqualTo(base);
+        assertThat(JobSearchKey.of(new JobSearchQuery("java", null, null, null, null), NEWEST, CountMode.CAPPED))
+                .isNotEqualTo(base);
+    }
+
+    @Test
+    void relevanceDirectionIsIgnoredButOtherDirectionsAreNot() {
+        assertThat(key("java", null, null, null, null, PageRequest.of(0, 20, Sort.by(JobSearchIndex.RELEVANCE))))
+                .isEqualTo(key("java", null, null, null, null,
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, JobSearchIndex.RELEVANCE))));
+
+        // ?sort=createdAt is ascending, a different page from ?sort=createdAt,desc
+        assertThat(key("java", null, null, null, null, PageRequest.of(0, 20, Sort.by("createdAt"))))
+                .isNotEqualTo(key("java", null, null, null, null, NEWEST));
+    }
+
+    private static JobSearchKey key(String keyword, String title, Long companyId, String companyName,
+                                    JobStatus status, Pageable pageable) {
+        return JobSearchKey.of(new JobSearchQuery(keyword, title, companyId, companyName, status), pageable,
+                CountMode.EXACT);
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobs.jobboard.search;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import com.jobs.jobboard.support.PostgresTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the trigram engine against Postgres 16: the index script (pg_trgm and the concurrent index
+ * builds), the readiness check on those indexes and the SQL from {@link JobSearchSql}, which H2 cannot
+ * execute.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "jobboard.search.engine=postgres",
+        "jobboard.search.index.enabled=false"
+})
+@ActiveProfiles("dev")
+class PostgresTrigramJobSearchIndexTests {
+
+    @Container
+    static final PostgreSQLContainer postgres = PostgresTestDatabase.container();
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, postgres);
+    }
+
+    @Autowired
+    private PostgresTrigramJobSearchIndex index;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private JobVacancy javaTitle;
+    private JobVacancy javaDescription;
+    private JobVacancy javaCompany;
+    private JobVacancy deleted;
+    private Company acme;
+
+    @BeforeEach
+    void seed() {
+        buildIndexes();
+
+        acme = company("owner@acme.test", "Acme Tecnologia");
+        Company globex = company("owner@globex.test", "Globex Java Labs");
+
+        javaTitle = job("Desenvolvedor Java", "Backend com Spring", "Remoto", acme, JobStatus.OPEN);
+        javaDescription = job("Analista de Dados", "SQL e um pouco de Java", "Recife", acme, JobStatus.CLOSED);
+        javaCompany = job("Designer", "Interfaces", "Curitiba", globex, JobStatus.OPEN);
+        job("Engenheiro 100% remoto", "Chão de fábrica", "São Paulo", acme, JobStatus.OPEN);
+
+        deleted = new JobVacancy();
+        deleted.setTitle("Java legado");
+        deleted.setDescription("Removida");
+        deleted.setLocation("Remoto");
+        deleted.setStatus(JobStatus.OPEN);
+        deleted.setCompany(acme);
+        deleted.setDeletedAt(LocalDateTime.now());
+        deleted = jobRepository.save(deleted);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void readyOnlyWhileEveryIndexIsValid() {
+        JobSearchQuery query = new JobSearchQuery("java", null, null, null, null);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        assertThat(index.search(query, pageable, CountMode.EXACT)).isPresent();
+
+        jdbcTemplate.execute("DROP INDEX idx_companies_name_trgm");
+        index.checkIndexes();
+        assertThat(index.search(query, pageable, CountMode.EXACT)).isEmpty();
+
+        buildIndexes();
+        assertThat(index.search(query, pageable, CountMode.EXACT)).isPresent();
+    }
+
+    @Test
+    void keywordMatchesEveryFieldAndRanksByRelevance() {
+        JobSearchResult result = search(new JobSearchQuery("JAVA", null, null, null, null),
+                PageRequest.of(0, 10, Sort.by(JobSearchIndex.RELEVANCE)));
+
+        // title (3.0) beats company name (2.0), which beats description (1.0); the deleted job is left out
+        assertThat(result.ids()).containsExactly(javaTitle.getId(), javaCompany.getId(), javaDescription.getId());
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.ids()).doesNotContain(deleted.getId());
+    }
+
+    @Test
+    void filtersCombineAndLikeWildcardsAreLiteral() {
+        assertThat(search(new JobSearchQuery("java", null, acme.getId(), null, JobStatus.OPEN),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))).ids())
+                .containsExactly(javaTitle.getId());
+
+        assertThat(search(new JobSearchQuery(null, "100%", null, null, null),
+                PageRequest.of(0, 10, Sort.by("id"))).total()).isEqualTo(1);
+        assertThat(search(new JobSearchQuery(null, "0%r", null, null, null),
+                PageRequest.of(0, 10, Sort.by("id"))).total()).isZero();
+    }
+
+    @Test
+    void pagesCarryTheCountModeAndStopAtTheLastRow() {
+        JobSearchResult first = search(new JobSearchQuery("java", null, null, null, null),
+                PageRequest.of(0, 2, Sort.by(JobSearchIndex.RELEVANCE)));
+        JobSearchResult second = search(new JobSearchQuery("java", null, null, null, null),
+                PageRequest.of(1, 2, Sort.by(JobSearchIndex.RELEVANCE)));
+
+        assertThat(first.ids()).containsExactly(javaTitle.getId(), javaCompany.getId());
+        assertThat(second.ids()).containsExactly(javaDescription.getId());
+        assertThat(second.total()).isEqualTo(3);
+        assertThat(second.countMode()).isEqualTo(CountMode.EXACT);
+    }
+
+    // Re-running the script only builds what is missing
+    private void buildIndexes() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/postgres/018-job-search-trigram.sql")).execute(dataSource);
+        index.checkIndexes();
+    }
+
+    private JobSearchResult search(JobSearchQuery query, Pageable pageable) {
+        return index.search(query, pageable, CountMode.EXACT).orElseThrow();
+    }
+
+    private Company company(String email, String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(Role.COMPANY);
+
+        Company company = new Company();
+        company.setName(name);
+        company.setUser(userRepository.save(user));
+        return companyRepository.save(company);
+    }
+
+    private JobVacancy job(String title, String description, String location, Company company, JobStatus status) {
+        JobVacancy job = new JobVacancy();
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation(location);
+        job.setStatus(status);
+        job.setCompany(company);
+        return jobRepository.save(job);
+    }
+}
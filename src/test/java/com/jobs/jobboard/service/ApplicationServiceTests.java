@@ -0,0 +1,202 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.response.ApplicationResponse;
+import com.jobs.jobboard.entity.ApplicationStatus;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.exception.BusinessException;
+import com.jobs.jobboard.repository.ApplicationRepository;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import com.jobs.jobboard.repository.projection.JobApplicationCounts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "jobboard.search.index.enabled=false")
+@ActiveProfiles("dev")
+class ApplicationServiceTests {
+
+    private static final int CANDIDATES = 3;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationCounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Company company;
+    private JobVacancy job;
+    private final List<User> candidates = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        owner = userRepository.save(user("owner@applications.test", Role.COMPANY));
+
+        company = new Company();
+        company.setName("Applications Co");
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        job = new JobVacancy();
+        job.setTitle("Vaga");
+        job.setDescription("Descrição");
+        job.setLocation("Remoto");
+        job.setCompany(company);
+        job = jobRepository.save(job);
+
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(userRepository.save(user("candidate" + i + "@applications.test", Role.CANDIDATE)));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void countersFollowApplicationsThroughStatusChangesAndDeletes() {
+        List<Long> ids = new ArrayList<>();
+        for (User candidate : candidates) {
+            signIn(candidate);
+            ids.add(applicationService.createApplication(job.getId(), null).getId());
+        }
+        assertCounts(3, 3, 0, 0, 0);
+
+        signIn(owner);
+        applicationService.updateApplicationStatus(ids.get(0), ApplicationStatus.REVIEWING);
+        ApplicationResponse approved = applicationService.updateApplicationStatus(ids.get(1), ApplicationStatus.APPROVED);
+        assertThat(approved.getStatus()).isEqualTo(ApplicationStatus.APPROVED);
+        assertCounts(3, 1, 1, 1, 0);
+
+        // setting the status an application already has changes nothing
+        applicationService.updateApplicationStatus(ids.get(1), ApplicationStatus.APPROVED);
+        assertCounts(3, 1, 1, 1, 0);
+
+        applicationService.deleteApplication(ids.get(1));
+        assertThatThrownBy(() -> applicationService.deleteApplication(ids.get(1)))
+                .isInstanceOf(BusinessException.class);
+        assertCounts(2, 1, 1, 0, 0);
+    }
+
+    @Test
+    void statusChangesAndDeletesAreConditionalOnTheStatusTheyCountFrom() {
+        signIn(candidates.get(0));
+        Long id = applicationService.createApplication(job.getId(), null).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(write(() -> applicationRepository.updateStatus(id, ApplicationStatus.REVIEWING,
+                ApplicationStatus.APPROVED, now, now))).isZero();
+        assertThat(write(() -> applicationRepository.softDeleteByIdAndStatus(id, ApplicationStatus.REVIEWING, now)))
+                .isZero();
+        assertThat(write(() -> applicationRepository.updateStatus(id, ApplicationStatus.PENDING,
+                ApplicationStatus.REVIEWING, null, now))).isOne();
+        assertThat(write(() -> applicationRepository.softDeleteByIdAndStatus(id, ApplicationStatus.REVIEWING, now)))
+                .isOne();
+        assertThat(write(() -> applicationRepository.softDeleteByIdAndStatus(id, ApplicationStatus.REVIEWING, now)))
+                .isZero();
+    }
+
+    @Test
+    void reconcileRepairsOnlyJobsWhoseCountersDrifted() {
+        List<Long> ids = new ArrayList<>();
+        for (User candidate : candidates) {
+            signIn(candidate);
+            ids.add(applicationService.createApplication(job.getId(), null).getId());
+        }
+        signIn(owner);
+        applicationService.updateApplicationStatus(ids.get(0), ApplicationStatus.REJECTED);
+        applicationService.deleteApplication(ids.get(1));
+
+        JobVacancy empty = new JobVacancy();
+        empty.setTitle("Vaga sem candidaturas");
+        empty.setDescription("Descrição");
+        empty.setLocation("Remoto");
+        empty.setCompany(company);
+        empty = jobRepository.save(empty);
+
+        assertThat(counterService.reconcile()).isZero();
+
+        jdbcTemplate.update("UPDATE job_vacancies SET applications_total = 7, applications_pending = 0 WHERE id = ?",
+                job.getId());
+        jdbcTemplate.update("UPDATE job_vacancies SET applications_approved = 2 WHERE id = ?", empty.getId());
+
+        assertThat(counterService.reconcile()).isEqualTo(2);
+        assertCounts(2, 1, 0, 0, 1);
+        JobApplicationCounts emptyCounts = jobRepository.findApplicationCountsById(empty.getId()).orElseThrow();
+        assertThat(emptyCounts.getTotal()).isZero();
+        assertThat(emptyCounts.getApproved()).isZero();
+
+        assertThat(counterService.reconcile()).isZero();
+    }
+
+    private int write(IntSupplier update) {
+        return new TransactionTemplate(transactionManager).execute(status -> update.getAsInt());
+    }
+
+    private void assertCounts(int total, int pending, int reviewing, int approved, int rejected) {
+        JobApplicationCounts counts = jobRepository.findApplicationCountsById(job.getId()).orElseThrow();
+        assertThat(List.of(counts.getTotal(), counts.getPending(), counts.getReviewing(), counts.getApproved(),
+                counts.getRejected()))
+                .containsExactly(total, pending, reviewing, approved, rejected);
+    }
+
+    private static void signIn(User user) {
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(role);
+        return user;
+    }
+}
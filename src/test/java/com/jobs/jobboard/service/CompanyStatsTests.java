@@ -0,0 +1,222 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.dto.response.DailyApplicationsResponse;
+import com.jobs.jobboard.dto.response.JobApplicationStatsResponse;
+import com.jobs.jobboard.entity.Application;
+import com.jobs.jobboard.entity.ApplicationStatus;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.ApplicationRepository;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import com.jobs.jobboard.repository.projection.CompanyApplicationStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Seeds one company with applications inside and outside the 30-day window, plus rows the dashboard
+ * must ignore (a deleted application, an application to a deleted job, another company's application),
+ * and checks the grouped query, the response built from it and its eviction.
+ */
+@SpringBootTest(properties = "jobboard.search.index.enabled=false")
+@ActiveProfiles("dev")
+class CompanyStatsTests {
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private final List<User> candidates = new ArrayList<>();
+    private User owner;
+    private Company company;
+    private JobVacancy developer;
+    private JobVacancy designer;
+    private Application pendingToday;
+
+    @BeforeEach
+    void seed() {
+        owner = userRepository.save(user("owner@stats.test", Role.COMPANY));
+        company = companyRepository.save(company("Stats Co", owner));
+        User otherOwner = userRepository.save(user("other@stats.test", Role.COMPANY));
+        Company other = companyRepository.save(company("Other Co", otherOwner));
+        for (int i = 0; i < 5; i++) {
+            candidates.add(userRepository.save(user("candidate" + i + "@stats.test", Role.CANDIDATE)));
+        }
+
+        developer = jobRepository.save(job("Desenvolvedor", company));
+        designer = jobRepository.save(job("Designer", company));
+        JobVacancy closedDown = jobRepository.save(job("Removida", company));
+        JobVacancy elsewhere = jobRepository.save(job("Outra empresa", other));
+
+        LocalDateTime morning = today.atTime(0, 1);
+        LocalDateTime threeDaysAgo = today.minusDays(3).atTime(9, 0);
+        LocalDateTime longAgo = today.minusDays(40).atTime(9, 0);
+
+        pendingToday = apply(candidates.get(0), developer, ApplicationStatus.PENDING, morning, null);
+        apply(candidates.get(1), developer, ApplicationStatus.PENDING, morning, null);
+        apply(candidates.get(2), developer, ApplicationStatus.APPROVED, threeDaysAgo, threeDaysAgo.plusHours(10));
+        apply(candidates.get(3), developer, ApplicationStatus.REJECTED, longAgo, longAgo.plusHours(2));
+        apply(candidates.get(0), designer, ApplicationStatus.REVIEWING, longAgo, null);
+
+        Application withdrawn = apply(candidates.get(1), designer, ApplicationStatus.PENDING, morning, null);
+        jdbcTemplate.update("UPDATE applications SET deleted_at = ? WHERE id = ?", morning, withdrawn.getId());
+        apply(candidates.get(2), closedDown, ApplicationStatus.PENDING, morning, null);
+        jdbcTemplate.update("UPDATE job_vacancies SET deleted_at = ? WHERE id = ?", morning, closedDown.getId());
+        apply(candidates.get(3), elsewhere, ApplicationStatus.PENDING, morning, null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        applicationRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void aggregateGroupsLiveApplicationsByJobStatusAndDay() {
+        LocalDate firstDay = today.minusDays(29);
+
+        List<CompanyApplicationStats> rows =
+                applicationRepository.aggregateByCompanyId(company.getId(), firstDay.atStartOfDay());
+
+        assertThat(rows).extracting(CompanyApplicationStats::getJobId, CompanyApplicationStats::getStatus,
+                        CompanyApplicationStats::getDay, CompanyApplicationStats::getApplications,
+                        CompanyApplicationStats::getDecided, CompanyApplicationStats::getDecisionSeconds)
+                .containsExactlyInAnyOrder(
+                        tuple(developer.getId(), ApplicationStatus.PENDING, today, 2L, 0L, null),
+                        tuple(developer.getId(), ApplicationStatus.APPROVED, today.minusDays(3), 1L, 1L, 36_000L),
+                        // outside the window: one row per (job, status) without a day
+                        tuple(developer.getId(), ApplicationStatus.REJECTED, null, 1L, 1L, 7_200L),
+                        tuple(designer.getId(), ApplicationStatus.REVIEWING, null, 1L, 0L, null));
+    }
+
+    @Test
+    void statsFillEveryDayOfTheWindowAndAverageDecisions() {
+        signIn(owner, company.getId());
+
+        CompanyStatsResponse stats = companyService.getMyCompanyStats();
+
+        assertThat(stats.getTotalApplications()).isEqualTo(5);
+        assertThat(stats.getByStatus()).isEqualTo(Map.of(ApplicationStatus.PENDING, 2L,
+                ApplicationStatus.REVIEWING, 1L, ApplicationStatus.APPROVED, 1L, ApplicationStatus.REJECTED, 1L));
+        assertThat(stats.getDecidedApplications()).isEqualTo(2);
+        assertThat(stats.getAverageHoursToDecision()).isEqualTo(6.0);
+
+        List<DailyApplicationsResponse> perDay = stats.getPerDay();
+        assertThat(perDay).hasSize(30);
+        assertThat(perDay).extracting(DailyApplicationsResponse::getDate)
+                .startsWith(today.minusDays(29)).endsWith(today).doesNotHaveDuplicates().isSorted();
+        assertThat(perDay).filteredOn(day -> day.getApplications() > 0)
+                .extracting(DailyApplicationsResponse::getDate, DailyApplicationsResponse::getApplications)
+                .containsExactly(tuple(today.minusDays(3), 1L), tuple(today, 2L));
+
+        assertThat(stats.getJobs()).extracting(JobApplicationStatsResponse::getJobId, JobApplicationStatsResponse::getTotal)
+                .containsExactly(tuple(developer.getId(), 4L), tuple(designer.getId(), 1L));
+    }
+
+    @Test
+    void applicationChangesEvictTheCachedStats() {
+        signIn(owner, company.getId());
+        assertThat(companyService.getMyCompanyStats().getTotalApplications()).isEqualTo(5);
+
+        signIn(candidates.get(4), null);
+        Long created = applicationService.createApplication(developer.getId(), null).getId();
+        signIn(owner, company.getId());
+        assertThat(companyService.getMyCompanyStats().getTotalApplications()).isEqualTo(6);
+
+        applicationService.updateApplicationStatus(pendingToday.getId(), ApplicationStatus.APPROVED);
+        CompanyStatsResponse decided = companyService.getMyCompanyStats();
+        assertThat(decided.getByStatus()).containsEntry(ApplicationStatus.APPROVED, 2L);
+        assertThat(decided.getDecidedApplications()).isEqualTo(3);
+
+        signIn(candidates.get(4), null);
+        applicationService.deleteApplication(created);
+        signIn(owner, company.getId());
+        assertThat(companyService.getMyCompanyStats().getTotalApplications()).isEqualTo(5);
+    }
+
+    private Application apply(User candidate, JobVacancy job, ApplicationStatus status,
+                              LocalDateTime createdAt, LocalDateTime decidedAt) {
+        Application application = new Application();
+        application.setCandidate(candidate);
+        application.setJobVacancy(job);
+        application.setStatus(status);
+        application = applicationRepository.save(application);
+        jdbcTemplate.update("UPDATE applications SET created_at = ?, decided_at = ? WHERE id = ?",
+                createdAt, decidedAt, application.getId());
+        return application;
+    }
+
+    private static void signIn(User user, Long companyId) {
+        AuthenticatedPrincipal principal =
+                new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getRole(), companyId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("{noop}unused");
+        user.setRole(role);
+        return user;
+    }
+
+    private static Company company(String name, User owner) {
+        Company company = new Company();
+        company.setName(name);
+        company.setUser(owner);
+        return company;
+    }
+
+    private static JobVacancy job(String title, Company company) {
+        JobVacancy job = new JobVacancy();
+        job.setTitle(title);
+        job.setDescription("Descrição");
+        job.setLocation("Remoto");
+        job.setCompany(company);
+        return job;
+    }
+}
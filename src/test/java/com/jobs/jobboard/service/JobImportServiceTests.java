@@ -0,0 +1,274 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.cache.TwoTierCache;
+import com.jobs.jobboard.config.security.AuthenticatedPrincipal;
+import com.jobs.jobboard.dto.response.CompanyStatsResponse;
+import com.jobs.jobboard.dto.response.JobImportErrorResponse;
+import com.jobs.jobboard.dto.response.JobImportResponse;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobImportFormat;
+import com.jobs.jobboard.entity.JobImportStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.exception.BusinessException;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobImportErrorRepository;
+import com.jobs.jobboard.repository.JobImportRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "jobboard.search.index.enabled=false",
+        "jobboard.import.spool-dir=${java.io.tmpdir}/jobboard-import-tests",
+        "jobboard.import.chunk-size=2",
+        "jobboard.import.max-size=1KB",
+        "jobboard.import.max-record-chars=200"
+})
+@ActiveProfiles("dev")
+class JobImportServiceTests {
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobImportRepository jobImportRepository;
+
+    @Autowired
+    private JobImportErrorRepository jobImportErrorRepository;
+
+    @Autowired
+    private TwoTierCache<Long, CompanyStatsResponse> statsCache;
+
+    @Value("${jobboard.import.spool-dir}")
+    private Path spoolDir;
+
+    private Company company;
+
+    @BeforeEach
+    void signInAsCompany() {
+        User owner = new User();
+        owner.setName("Import owner");
+        owner.setEmail("owner@import.test");
+        owner.setPassword("{noop}unused");
+        owner.setRole(Role.COMPANY);
+        owner = userRepository.save(owner);
+
+        company = new Company();
+        company.setName("Import Co");
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        AuthenticatedPrincipal principal =
+                new AuthenticatedPrincipal(owner.getId(), owner.getEmail(), Role.COMPANY, company.getId());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jobImportErrorRepository.deleteAllInBatch();
+        jobImportRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void csvRowsAreImportedAndBadRowsRecordedWithoutFailingTheirChunk() throws Exception {
+        // with chunk-size 2, each chunk holds one good and one bad row
+        JobImportResponse started = jobImportService.start(JobImportFormat.CSV, body("""
+                title,description,location,salary_min
+                "Dev Java","Backend, com Spring
+                e Kafka",Remoto,5000
+                Analista,Dados,Recife,abc
+                QA,Testes,Curitiba,
+                Designer,"Interfaces ""UX\"\"\",São Paulo,
+                """));
+        assertThat(started.getStatus()).isEqualTo(JobImportStatus.PENDING);
+
+        JobImportResponse finished = awaitFinished(started.getId());
+        assertThat(finished.getStatus()).isEqualTo(JobImportStatus.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(4);
+        assertThat(finished.getImportedRows()).isEqualTo(2);
+        assertThat(finished.getFailedRows()).isEqualTo(2);
+
+        // a quoted line break keeps the record together and moves the following line numbers on
+        assertThat(errors(started.getId())).containsExactly(
+                "4: salaryMin: valor numérico inválido",
+                "5: title: Título deve ter entre 3 e 200 caracteres");
+
+        List<JobVacancy> jobs = jobs();
+        assertThat(jobs).extracting(JobVacancy::getTitle).containsExactlyInAnyOrder("Dev Java", "Designer");
+        JobVacancy java = jobs.stream().filter(job -> job.getTitle().equals("Dev Java")).findFirst().orElseThrow();
+        assertThat(java.getDescription()).isEqualTo("Backend, com Spring\ne Kafka");
+        assertThat(java.getSalaryMin()).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(jobs).extracting(JobVacancy::getDescription).contains("Interfaces \"UX\"");
+    }
+
+    @Test
+    void ndjsonLinesAreImportedAndUnreadableOnesRecorded() throws Exception {
+        JobImportResponse started = jobImportService.start(JobImportFormat.NDJSON, body("""
+                {"title":"Dev Java","location":"Remoto","salaryMin":5000}
+                {not json
+                {"title":"Analista de Dados"}
+
+                {"title":"Designer","description":"Interfaces","location":"Recife"}
+                """));
+
+        JobImportResponse finished = awaitFinished(started.getId());
+        assertThat(finished.getStatus()).isEqualTo(JobImportStatus.COMPLETED);
+        assertThat(finished.getImportedRows()).isEqualTo(2);
+        assertThat(finished.getFailedRows()).isEqualTo(2);
+
+        List<String> errors = errors(started.getId());
+        assertThat(errors).hasSize(2);
+        assertThat(errors.get(0)).startsWith("2: JSON inválido");
+        assertThat(errors.get(1)).isEqualTo("3: location: Localização é obrigatória");
+        assertThat(jobs()).extracting(JobVacancy::getTitle).containsExactlyInAnyOrder("Dev Java", "Designer");
+    }
+
+    @Test
+    void failedImportResumesAfterItsLastCommittedChunk() throws Exception {
+        String longTitle = "x".repeat(250);
+        JobImportResponse started = jobImportService.start(JobImportFormat.CSV, body("""
+                title,location
+                Vaga 1,Remoto
+                Vaga 2,Remoto
+                Vaga 3,Remoto
+                %s,Remoto
+                Vaga 5,Remoto
+                """.formatted(longTitle)));
+
+        // the record over max-record-chars stops the reader during the second chunk
+        JobImportResponse failed = awaitFinished(started.getId());
+        assertThat(failed.getStatus()).isEqualTo(JobImportStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("Registro da linha 5 excede 200 caracteres");
+        assertThat(failed.getProcessedRows()).isEqualTo(2);
+        assertThat(jobs()).extracting(JobVacancy::getTitle).containsExactlyInAnyOrder("Vaga 1", "Vaga 2");
+
+        Path file = spoolDir.resolve(jobImportRepository.findById(started.getId()).orElseThrow().getSpoolFile());
+        Files.writeString(file, Files.readString(file).replace(longTitle, "Vaga 4"));
+
+        // the worker may already have picked it up by the time resume returns
+        assertThat(jobImportService.resume(started.getId()).getStatus()).isNotEqualTo(JobImportStatus.FAILED);
+        JobImportResponse resumed = awaitFinished(started.getId());
+
+        assertThat(resumed.getStatus()).isEqualTo(JobImportStatus.COMPLETED);
+        assertThat(resumed.getProcessedRows()).isEqualTo(5);
+        assertThat(resumed.getImportedRows()).isEqualTo(5);
+        assertThat(jobs()).extracting(JobVacancy::getTitle)
+                .containsExactlyInAnyOrder("Vaga 1", "Vaga 2", "Vaga 3", "Vaga 4", "Vaga 5");
+        // the spool file is removed just after the import is marked completed
+        awaitRemoved(file);
+    }
+
+    @Test
+    void ndjsonLineOverMaxRecordCharsFailsTheImport() throws Exception {
+        JobImportResponse started = jobImportService.start(JobImportFormat.NDJSON, body(
+                "{\"title\":\"" + "x".repeat(250) + "\",\"location\":\"Remoto\"}\n"));
+
+        JobImportResponse failed = awaitFinished(started.getId());
+        assertThat(failed.getStatus()).isEqualTo(JobImportStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("Linha 1 excede 200 caracteres");
+        assertThat(failed.getImportedRows()).isZero();
+    }
+
+    @Test
+    void uploadOverMaxSizeIsRejectedBeforeAnImportIsCreated() throws IOException {
+        long spooled = spooledFiles();
+
+        assertThatThrownBy(() -> jobImportService.start(JobImportFormat.CSV,
+                body("title,location\n" + "Vaga,Remoto\n".repeat(100))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Arquivo excede o limite");
+
+        assertThat(jobImportRepository.count()).isZero();
+        assertThat(spooledFiles()).isEqualTo(spooled);
+    }
+
+    @Test
+    void importedJobsEvictTheCompanyStats() throws Exception {
+        CompanyStatsResponse cached = statsCache.get(company.getId(), CompanyStatsResponse::new);
+
+        JobImportResponse started = jobImportService.start(JobImportFormat.NDJSON, body("""
+                {"title":"Dev Java","description":"Backend","location":"Remoto"}
+                """));
+        assertThat(awaitFinished(started.getId()).getImportedRows()).isEqualTo(1);
+
+        assertThat(statsCache.get(company.getId(), CompanyStatsResponse::new)).isNotSameAs(cached);
+    }
+
+    private JobImportResponse awaitFinished(Long id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            JobImportResponse jobImport = jobImportService.getImport(id);
+            if (jobImport.getStatus() == JobImportStatus.COMPLETED || jobImport.getStatus() == JobImportStatus.FAILED) {
+                return jobImport;
+            }
+            assertThat(System.nanoTime()).as("import %d still %s", id, jobImport.getStatus()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void awaitRemoved(Path file) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Files.exists(file)) {
+            assertThat(System.nanoTime()).as("%s still exists", file).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private List<String> errors(Long id) {
+        return jobImportService.getErrors(id, 0, 100).stream()
+                .map(error -> error.getLine() + ": " + error.getMessage())
+                .toList();
+    }
+
+    private List<JobVacancy> jobs() {
+        return jobRepository.findByCompanyIdAndNotDeleted(company.getId());
+    }
+
+    private long spooledFiles() throws IOException {
+        if (!Files.exists(spoolDir)) return 0;
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,206 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.CountedPage;
+import com.jobs.jobboard.dto.response.CursorPage;
+import com.jobs.jobboard.dto.response.JobResponse;
+import com.jobs.jobboard.entity.Company;
+import com.jobs.jobboard.entity.JobStatus;
+import com.jobs.jobboard.entity.JobVacancy;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.CompanyRepository;
+import com.jobs.jobboard.repository.JobRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "jobboard.search.index.enabled=false",
+        "jobboard.cache.search.max-page=0",
+        "jobboard.pagination.count-cap=5"
+})
+@ActiveProfiles("dev")
+class JobServiceTests {
+
+    private static final int JOBS = 7;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<JobVacancy> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        User owner = new User();
+        owner.setName("Job owner");
+        owner.setEmail("owner@jobservice.test");
+        owner.setPassword("{noop}unused");
+        owner.setRole(Role.COMPANY);
+        owner = userRepository.save(owner);
+
+        Company company = new Company();
+        company.setName("Job Service Co");
+        company.setUser(owner);
+        company = companyRepository.save(company);
+
+        for (int i = 0; i < JOBS; i++) {
+            JobVacancy job = new JobVacancy();
+            job.setTitle("Vaga " + i);
+            job.setDescription("Descrição " + i);
+            job.setLocation("Remoto");
+            job.setStatus(i % 2 == 0 ? JobStatus.OPEN : JobStatus.CLOSED);
+            job.setCompany(company);
+            jobs.add(jobRepository.save(job));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void cursorPagesWalkRowsWithEqualCreatedAtExactlyOnce() {
+        // two runs of identical timestamps, so each page ends inside a run and the next starts on a tie
+        LocalDateTime newer = LocalDateTime.of(2026, 10, 17, 12, 0);
+        LocalDateTime older = newer.minusDays(1);
+        for (int i = 0; i < JOBS; i++) {
+            jdbcTemplate.update("UPDATE job_vacancies SET created_at = ? WHERE id = ?",
+                    i < 4 ? older : newer, jobs.get(i).getId());
+        }
+
+        List<Long> expected = new ArrayList<>();
+        jobs.subList(4, JOBS).stream().map(JobVacancy::getId).sorted(Comparator.reverseOrder()).forEach(expected::add);
+        jobs.subList(0, 4).stream().map(JobVacancy::getId).sorted(Comparator.reverseOrder()).forEach(expected::add);
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<JobResponse> page = jobService.searchJobsByCursor(null, null, null, null, null, cursor, 2);
+            page.getContent().forEach(job -> walked.add(job.getId()));
+            assertThat(page.getNextCursor() != null).isEqualTo(page.isHasNext());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void exportWritesOneJobPerLineAndLeavesNothingManaged() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // the export joins this transaction, so its persistence context is still open afterwards
+        int managed = new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                jobService.exportJobs(JobStatus.OPEN, output);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+
+        assertThat(managed).isZero();
+
+        List<JsonNode> lines = output.toString(StandardCharsets.UTF_8).lines().map(objectMapper::readTree).toList();
+        assertThat(lines).extracting(line -> line.path("title").asString())
+                .containsExactlyInAnyOrder("Vaga 0", "Vaga 2", "Vaga 4", "Vaga 6");
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.path("status").asString()).isEqualTo("OPEN");
+            assertThat(line.path("company").path("name").asString()).isEqualTo("Job Service Co");
+        });
+    }
+
+    @Test
+    void cappedAndEstimatedSearchesAroundTheCap() {
+        // seven jobs against a cap of five; H2 has no planner estimate, so ESTIMATED counts like CAPPED
+        for (CountMode mode : List.of(CountMode.CAPPED, CountMode.ESTIMATED)) {
+            CountedPage<JobResponse> overCap = search(null, 0, mode);
+            assertThat(overCap.getContent()).hasSize(2);
+            assertThat(overCap.getTotalElements()).as(mode.name()).isEqualTo(5);
+            assertThat(overCap.getCountMode()).isEqualTo(CountMode.CAPPED);
+
+            CountedPage<JobResponse> pastTheEnd = search(null, 10, mode);
+            assertThat(pastTheEnd.getContent()).isEmpty();
+            assertThat(pastTheEnd.getTotalElements()).isEqualTo(5);
+            assertThat(pastTheEnd.getCountMode()).isEqualTo(CountMode.CAPPED);
+
+            // four open jobs fit under the cap and are counted exactly
+            CountedPage<JobResponse> underCap = search(JobStatus.OPEN, 0, mode);
+            assertThat(underCap.getTotalElements()).isEqualTo(4);
+            assertThat(underCap.getCountMode()).isEqualTo(CountMode.EXACT);
+
+            CountedPage<JobResponse> lastPage = search(JobStatus.OPEN, 1, mode);
+            assertThat(lastPage.getContent()).hasSize(2);
+            assertThat(lastPage.getTotalElements()).isEqualTo(4);
+            assertThat(lastPage.getCountMode()).isEqualTo(CountMode.EXACT);
+        }
+    }
+
+    @Test
+    void keywordIsACaseInsensitiveSubstringWithLiteralWildcards() {
+        assertThat(titles("VAGA 1")).containsExactly("Vaga 1");
+        assertThat(titles("ção 3")).containsExactly("Vaga 3");
+        assertThat(titles("job service")).hasSize(JOBS);
+        assertThat(titles("vaga remoto")).isEmpty();
+        assertThat(titles("%")).isEmpty();
+        assertThat(titles("vaga_")).isEmpty();
+    }
+
+    private List<String> titles(String keyword) {
+        return jobService.searchJobs(keyword, null, null, null, null, PageRequest.of(0, 10), CountMode.EXACT)
+                .getContent().stream().map(JobResponse::getTitle).toList();
+    }
+
+    private CountedPage<JobResponse> search(JobStatus status, int page, CountMode mode) {
+        return jobService.searchJobs(null, null, null, null, status, PageRequest.of(page, 2), mode);
+    }
+}
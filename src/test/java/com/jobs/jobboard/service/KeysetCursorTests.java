@@ -0,0 +1,48 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTests {
+
+    @Test
+    void roundTripsToTheNanosecond() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 9, 30, 0, 123_456_789), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void roundTripsOnAWholeMinute() {
+        // LocalDateTime.toString drops zero seconds, which parse still reads back
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 9, 30), 7L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void missingCursorStartsAtTheTop() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.START);
+        assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.START);
+    }
+
+    @Test
+    void malformedCursorIsABusinessError() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-10-17T09:30".getBytes());
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes());
+
+        for (String cursor : new String[]{"not base64!", noSeparator, badDate}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("Cursor de paginação inválido");
+        }
+    }
+}
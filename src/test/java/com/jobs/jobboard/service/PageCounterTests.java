@@ -0,0 +1,150 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.dto.request.CountMode;
+import com.jobs.jobboard.dto.response.CountedPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Totals for capped and estimated pages over a result of {@code rows} rows, with a cap of 10.
+ */
+class PageCounterTests {
+
+    private static final int CAP = 10;
+
+    private final PageCounter counter =
+            new PageCounter(mock(NamedParameterJdbcTemplate.class), JsonMapper.builder().build(), CAP);
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    void cappedTotalIsExactUpToTheCap() {
+        CountedPage<Long> page = counter.count(CountMode.CAPPED, slice(CAP, 0, 4), countUpTo(CAP), noEstimate());
+
+        assertThat(page.getTotalElements()).isEqualTo(CAP);
+        assertThat(page.getCountMode()).isEqualTo(CountMode.EXACT);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void cappedTotalStopsOneRowPastTheCap() {
+        CountedPage<Long> page = counter.count(CountMode.CAPPED, slice(CAP + 1, 0, 4), countUpTo(CAP + 1), noEstimate());
+
+        assertThat(page.getTotalElements()).isEqualTo(CAP);
+        assertThat(page.getCountMode()).isEqualTo(CountMode.CAPPED);
+    }
+
+    @Test
+    void cappedTotalIsNeverBelowTheRowsAlreadyPaged() {
+        // the fourth page shows rows 13-16 and there are more, so at least 17 whatever the cap says
+        CountedPage<Long> page = counter.count(CountMode.CAPPED, slice(100, 3, 4), countUpTo(100), noEstimate());
+
+        assertThat(page.getTotalElements()).isEqualTo(17);
+        assertThat(page.getCountMode()).isEqualTo(CountMode.CAPPED);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void lastPageIsCountedFromTheSliceAlone() {
+        for (CountMode mode : List.of(CountMode.CAPPED, CountMode.ESTIMATED)) {
+            CountedPage<Long> page = counter.count(mode, slice(CAP + 5, 3, 4), countUpTo(CAP + 5), estimate(3));
+
+            assertThat(page.getContent()).containsExactly(12L, 13L, 14L);
+            assertThat(page.getTotalElements()).isEqualTo(CAP + 5);
+            assertThat(page.getCountMode()).isEqualTo(CountMode.EXACT);
+        }
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void pastTheLastPageCappedFallsBackToTheCount() {
+        CountedPage<Long> belowCap = counter.count(CountMode.CAPPED, slice(6, 5, 4), countUpTo(6), noEstimate());
+        assertThat(belowCap.getContent()).isEmpty();
+        assertThat(belowCap.getTotalElements()).isEqualTo(6);
+        assertThat(belowCap.getCountMode()).isEqualTo(CountMode.EXACT);
+
+        CountedPage<Long> overCap = counter.count(CountMode.CAPPED, slice(50, 20, 4), countUpTo(50), noEstimate());
+        assertThat(overCap.getContent()).isEmpty();
+        assertThat(overCap.getTotalElements()).isEqualTo(CAP);
+        assertThat(overCap.getCountMode()).isEqualTo(CountMode.CAPPED);
+    }
+
+    @Test
+    void pastTheLastPageEstimatedKeepsTheEstimate() {
+        CountedPage<Long> page = counter.count(CountMode.ESTIMATED, slice(6, 5, 4), countUpTo(6), estimate(8));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(8);
+        assertThat(page.getCountMode()).isEqualTo(CountMode.ESTIMATED);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void estimateIsRaisedToTheRowsAlreadyPaged() {
+        CountedPage<Long> page = counter.count(CountMode.ESTIMATED, slice(100, 2, 4), countUpTo(100), estimate(3));
+
+        assertThat(page.getTotalElements()).isEqualTo(13);
+        assertThat(page.getCountMode()).isEqualTo(CountMode.ESTIMATED);
+    }
+
+    @Test
+    void estimatedWithoutAnEstimateIsCapped() {
+        CountedPage<Long> atCap = counter.count(CountMode.ESTIMATED, slice(CAP, 0, 4), countUpTo(CAP), noEstimate());
+        assertThat(atCap.getTotalElements()).isEqualTo(CAP);
+        assertThat(atCap.getCountMode()).isEqualTo(CountMode.EXACT);
+
+        CountedPage<Long> pastCap = counter.count(CountMode.ESTIMATED, slice(CAP + 1, 0, 4), countUpTo(CAP + 1), noEstimate());
+        assertThat(pastCap.getTotalElements()).isEqualTo(CAP);
+        assertThat(pastCap.getCountMode()).isEqualTo(CountMode.CAPPED);
+    }
+
+    @Test
+    void exactPageWithMoreRowsRunsTheFullCount() {
+        CountedPage<Long> page = counter.page(CountMode.CAPPED,
+                () -> { throw new AssertionError("capped pages never run the exact query"); },
+                () -> slice(100, 0, 4), countUpTo(100), noEstimate());
+
+        assertThat(page.getTotalElements()).isEqualTo(CAP);
+        assertThat(counts).hasValue(1);
+    }
+
+    /**
+     * The page a repository returns for {@code rows} rows: up to {@code size} of them, and whether more follow.
+     */
+    private static Slice<Long> slice(long rows, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<Long> content = LongStream.range(pageable.getOffset(), Math.min(rows, pageable.getOffset() + size))
+                .boxed().toList();
+        return new SliceImpl<>(content, pageable, pageable.getOffset() + size < rows);
+    }
+
+    private IntToLongFunction countUpTo(long rows) {
+        return limit -> {
+            counts.incrementAndGet();
+            return Math.min(rows, limit);
+        };
+    }
+
+    private static Supplier<OptionalLong> estimate(long rows) {
+        return () -> OptionalLong.of(rows);
+    }
+
+    private static Supplier<OptionalLong> noEstimate() {
+        return OptionalLong::empty;
+    }
+}
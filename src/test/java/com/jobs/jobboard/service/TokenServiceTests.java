@@ -0,0 +1,143 @@
+package com.jobs.jobboard.service;
+
+import com.jobs.jobboard.config.security.JwtService;
+import com.jobs.jobboard.config.security.TokenRevocationList;
+import com.jobs.jobboard.entity.Role;
+import com.jobs.jobboard.entity.User;
+import com.jobs.jobboard.repository.RefreshTokenRepository;
+import com.jobs.jobboard.repository.RevokedTokenRepository;
+import com.jobs.jobboard.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jobboard.search.index.enabled=false"
+})
+@ActiveProfiles("dev")
+class TokenServiceTests {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = new User();
+        user.setName("Token user");
+        user.setEmail("user@tokens.test");
+        user.setPassword("{noop}unused");
+        user.setRole(Role.CANDIDATE);
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+        revokedTokenRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        revocationList.rebuild();
+    }
+
+    @Test
+    void refreshRotatesTheRefreshTokenAndKeepsTheSession() {
+        TokenService.Tokens login = tokenService.issue(user);
+        TokenService.Tokens refreshed = tokenService.refresh(login.refreshToken());
+
+        assertThat(refreshed.refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(jti(refreshed.accessToken())).isNotEqualTo(jti(login.accessToken()));
+        assertThat(revocationList.isRevoked(jti(login.accessToken()))).isFalse();
+        assertThat(revocationList.isRevoked(jti(refreshed.accessToken()))).isFalse();
+
+        assertThat(tokenService.refresh(refreshed.refreshToken()).user().getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void reusingARefreshTokenRevokesTheWholeFamily() {
+        TokenService.Tokens login = tokenService.issue(user);
+        TokenService.Tokens refreshed = tokenService.refresh(login.refreshToken());
+        TokenService.Tokens otherDevice = tokenService.issue(user);
+
+        assertThatThrownBy(() -> tokenService.refresh(login.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+
+        // the thief's copy and the legitimate client's latest tokens are all dead now
+        assertThat(revocationList.isRevoked(jti(login.accessToken()))).isTrue();
+        assertThat(revocationList.isRevoked(jti(refreshed.accessToken()))).isTrue();
+        assertThatThrownBy(() -> tokenService.refresh(refreshed.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+
+        // other logins of the same user are separate families
+        assertThat(revocationList.isRevoked(jti(otherDevice.accessToken()))).isFalse();
+        assertThat(tokenService.refresh(otherDevice.refreshToken())).isNotNull();
+    }
+
+    @Test
+    void logoutRevokesTheSessionAndSurvivesARebuild() {
+        TokenService.Tokens login = tokenService.issue(user);
+
+        tokenService.logout(login.accessToken(), null);
+        assertThat(revocationList.isRevoked(jti(login.accessToken()))).isTrue();
+        assertThatThrownBy(() -> tokenService.refresh(login.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+
+        revocationList.rebuild();
+        assertThat(revocationList.isRevoked(jti(login.accessToken()))).isTrue();
+
+        // a second logout finds nothing left to revoke
+        tokenService.logout(login.accessToken(), login.refreshToken());
+        assertThat(revokedTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void revokingManySessionsInsertsWithoutSelectingEachRow() {
+        TokenService.Tokens first = tokenService.issue(user);
+        TokenService.Tokens second = tokenService.issue(user);
+        TokenService.Tokens third = tokenService.issue(user);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        tokenService.revokeAllForUser(user.getId());
+
+        // revoke the refresh tokens, find the live access tokens, one batched insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(revokedTokenRepository.count()).isEqualTo(3);
+        assertThat(revocationList.isRevoked(jti(first.accessToken()))).isTrue();
+        assertThat(revocationList.isRevoked(jti(second.accessToken()))).isTrue();
+        assertThat(revocationList.isRevoked(jti(third.accessToken()))).isTrue();
+    }
+
+    private String jti(String accessToken) {
+        return jwtService.parseClaims(accessToken).getId();
+    }
+}
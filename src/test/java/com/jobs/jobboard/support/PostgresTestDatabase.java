@@ -0,0 +1,30 @@
+package com.jobs.jobboard.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Postgres 16 for the tests that need what H2 does not have: pg_trgm, {@code CREATE INDEX CONCURRENTLY}
+ * and generic plans. Those test classes are {@code @Testcontainers(disabledWithoutDocker = true)}, so
+ * they are skipped, not failed, on a machine without Docker.
+ */
+public final class PostgresTestDatabase {
+
+    private PostgresTestDatabase() {}
+
+    public static PostgreSQLContainer container() {
+        return new PostgreSQLContainer("postgres:16-alpine");
+    }
+
+    /**
+     * Points the datasource and dialect at the container, over the H2 settings of the dev profile.
+     */
+    public static void register(DynamicPropertyRegistry registry, PostgreSQLContainer postgres) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driverClassName", postgres::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+}